@@ -0,0 +1,88 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.request.TimesheetRequest;
+import com.synechisveltiosi.tms.model.embed.PersonDetails;
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.entity.Task;
+import com.synechisveltiosi.tms.model.entity.Timesheet;
+import com.synechisveltiosi.tms.model.entity.TimesheetApproval;
+import com.synechisveltiosi.tms.model.entity.TimesheetEntry;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Detached entities and requests shaped like the ones the API handles: a week per timesheet, seven entries per task
+ * and one approval. Entries beyond the seventh go to further tasks.
+ */
+final class BenchmarkData {
+    static final LocalDate FIRST_WEEK = LocalDate.of(2024, 1, 1);
+
+    private BenchmarkData() {
+    }
+
+    static Employee employee() {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .personDetails(PersonDetails.builder()
+                        .name(PersonDetails.Name.builder().firstName("John").lastName("Doe").build())
+                        .contact(PersonDetails.Contact.builder()
+                                .contactNumber("1234567890")
+                                .emailAddress("john.doe@example.com")
+                                .build())
+                        .address(PersonDetails.Address.builder()
+                                .addressLine1("123 Main St")
+                                .city("New York")
+                                .state("NY")
+                                .zipCode("10001")
+                                .country("USA")
+                                .build())
+                        .build())
+                .build();
+    }
+
+    static List<Timesheet> timesheets(Employee employee, int timesheets, int entriesPerTimesheet) {
+        Employee manager = employee();
+        List<Timesheet> result = new ArrayList<>(timesheets);
+        for (int week = 0; week < timesheets; week++) {
+            LocalDate startDate = FIRST_WEEK.plusWeeks(week);
+            Timesheet timesheet = Timesheet.builder()
+                    .id(UUID.randomUUID())
+                    .status(TimesheetStatus.SUBMITTED)
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(6))
+                    .employee(employee)
+                    .build();
+            for (int i = 0; i < entriesPerTimesheet; i++) {
+                timesheet.addEntry(TimesheetEntry.builder()
+                        .date(startDate.plusDays(i % 7))
+                        .entryType(TimesheetEntryType.BILLABLE)
+                        .hours(8)
+                        .task(Task.builder().id((long) i / 7 + 1).name("Task " + (i / 7 + 1)).build())
+                        .build());
+            }
+            timesheet.addApproval(TimesheetApproval.builder()
+                    .id((long) week + 1)
+                    .date(startDate.plusDays(7))
+                    .status(TimesheetStatus.PENDING)
+                    .comments("")
+                    .approver(manager)
+                    .build());
+            result.add(timesheet);
+        }
+        return result;
+    }
+
+    static TimesheetRequest request(int entries) {
+        List<TimesheetRequest.TimesheetEntryRequest> entryRequests = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            entryRequests.add(new TimesheetRequest.TimesheetEntryRequest(null, (long) i / 7 + 1,
+                    TimesheetEntryType.BILLABLE, FIRST_WEEK.plusDays(i % 7), 8));
+        }
+        return new TimesheetRequest(FIRST_WEEK, FIRST_WEEK.plusDays(6), entryRequests);
+    }
+}
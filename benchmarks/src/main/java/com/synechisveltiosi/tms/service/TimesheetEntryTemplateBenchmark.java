@@ -0,0 +1,46 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.entity.Timesheet;
+import com.synechisveltiosi.tms.model.entity.TimesheetEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-employee cost of timesheet generation outside the database: stamping the period's entries from the
+ * {@link TimesheetEntryTemplate} and packing them into the timesheet's lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimesheetEntryTemplateBenchmark {
+    @Param({"7", "14", "31"})
+    private int entriesPerTimesheet;
+
+    private TimesheetEntryTemplate template;
+
+    @Setup
+    public void setUp() {
+        template = TimesheetEntryTemplate.of(BenchmarkData.FIRST_WEEK,
+                BenchmarkData.FIRST_WEEK.plusDays(entriesPerTimesheet - 1));
+    }
+
+    @Benchmark
+    public List<TimesheetEntry> newEntries() {
+        return template.newEntries("USA", "NY");
+    }
+
+    @Benchmark
+    public Timesheet newTimesheet() {
+        Timesheet timesheet = Timesheet.builder()
+                .startDate(template.startDate())
+                .endDate(template.endDate())
+                .build();
+        template.newEntries("USA", "NY").forEach(timesheet::addEntry);
+        return timesheet;
+    }
+}
@@ -0,0 +1,53 @@
+package com.synechisveltiosi.tms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synechisveltiosi.tms.api.response.TimesheetDto;
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.entity.Timesheet;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering a timesheet listing once the entities are loaded: mapping an employee's timesheets to
+ * {@link TimesheetDto}s, which unpacks every timesheet line, and serializing the DTOs with an {@link ObjectMapper}
+ * configured like the application's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimesheetMappingBenchmark {
+    @Param({"7", "35", "140"})
+    private int entriesPerTimesheet;
+
+    @Param({"1", "13", "52"})
+    private int timesheetsPerEmployee;
+
+    private List<Timesheet> timesheets;
+    private List<TimesheetDto> dtos;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        Employee employee = BenchmarkData.employee();
+        timesheets = BenchmarkData.timesheets(employee, timesheetsPerEmployee, entriesPerTimesheet);
+        dtos = timesheets.stream().map(TimesheetDto::new).toList();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public List<TimesheetDto> mapToDtos() {
+        return timesheets.stream().map(TimesheetDto::new).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeDtos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+}
@@ -0,0 +1,37 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.request.TimesheetRequest;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating a timesheet request before anything is read from the database, with logging below WARN
+ * disabled as configured in the module's {@code logback.xml}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimesheetValidatorBenchmark {
+    @Param({"7", "35", "140"})
+    private int entriesPerTimesheet;
+
+    private TimesheetValidator validator;
+    private TimesheetRequest request;
+
+    @Setup
+    public void setUp() {
+        validator = new TimesheetValidator();
+        request = BenchmarkData.request(entriesPerTimesheet);
+    }
+
+    @Benchmark
+    public TimesheetRequest validateTimesheetCreation() {
+        validator.validateTimesheetCreation(request, TimesheetStatus.SUBMITTED);
+        return request;
+    }
+}
@@ -3,5 +3,7 @@ package com.synechisveltiosi.tms.api.constants.swagger;
 public class EmployeeConstants {
     public static final String EMPLOYEE_ID_DESC = "UUID of the employee";
     public static final String TIMESHEET_STATUS_DESC = "Timesheet status";
+    public static final String MANAGER_ID_DESC = "UUID of the manager";
+    public static final String DIRECT_REPORTS_DESC = "Only include direct reports instead of the whole reporting line";
 
 }
@@ -8,5 +8,9 @@ public class ResourceConstants {
     public static final String INVALID_DATA = "Invalid data provided";
     public static final String INVALID_ID = "Invalid id provided";
     public static final String INVALID_STATUS = "Invalid status provided";
+    public static final String INVALID_TRANSITION = "Status change not allowed from the current status";
+    public static final String RESOURCE_CONFLICT = "Resource changed concurrently";
+    public static final String CURSOR_DESC = "Cursor returned by the previous page";
+    public static final String PAGE_SIZE_DESC = "Maximum number of items in the page";
 
 }
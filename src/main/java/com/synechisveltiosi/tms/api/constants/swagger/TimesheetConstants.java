@@ -2,4 +2,6 @@ package com.synechisveltiosi.tms.api.constants.swagger;
 
 public class TimesheetConstants {
     public static final String TIMESHEET_ID_DESC = "UUID of the timesheet";
+    public static final String GENERATION_JOB_ID_DESC = "UUID of the timesheet generation run";
+    public static final String PROJECT_ID_DESC = "UUID of the project";
 }
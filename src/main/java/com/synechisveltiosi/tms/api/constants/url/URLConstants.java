@@ -10,9 +10,32 @@ public class URLConstants {
     public static class TimesheetEndpoint {
         public static final String BASE = API_VERSION + "/timesheets";
         public static final String BY_EMP_ID = "/employee/{empId}";
+        public static final String BY_EMP_ID_HISTORY = "/employee/{empId}/history";
         public static final String BY_EMP_ID_TMS_STATUS = "/{empId}/status/{status}";
         public static final String BY_TMS_ID_EMP_ID = "/{tmsId}/approve/{empId}";
+        public static final String BULK_APPROVE_BY_EMP_ID = "/approve/{empId}";
         public static final String BY_TMS_ID = "/{tmsId}";
+        public static final String EXPORT = "/export";
+        public static final String IMPORT = "/import";
+        public static final String INBOX_BY_MANAGER_ID = "/inbox/{managerId}";
+        public static final String GENERATE = "/generate";
+        public static final String GENERATE_BY_JOB_ID = "/generate/{jobId}";
+    }
+
+    public static class ReportEndpoint {
+        public static final String BASE = API_VERSION + "/reports";
+        public static final String HOURS_BY_PROJECT_ID = "/hours/project/{projectId}";
+    }
+
+    public static class UtilizationEndpoint {
+        public static final String BASE = API_VERSION + "/utilization";
+        public static final String TEAM_BY_MANAGER_ID = "/team/{managerId}";
+        public static final String VERIFY = "/verify";
+    }
+
+    public static class CacheEndpoint {
+        public static final String BASE = API_VERSION + "/cache";
+        public static final String STATISTICS = "/statistics";
     }
 
     public static class Employee {
@@ -0,0 +1,9 @@
+package com.synechisveltiosi.tms.api.exception.timesheet;
+
+import com.synechisveltiosi.tms.api.exception.ResourceConflictException;
+
+public class TimesheetConflictException extends ResourceConflictException {
+    public TimesheetConflictException(String message) {
+        super(message);
+    }
+}
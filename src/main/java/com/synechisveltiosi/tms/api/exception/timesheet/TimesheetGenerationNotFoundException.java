@@ -0,0 +1,9 @@
+package com.synechisveltiosi.tms.api.exception.timesheet;
+
+import com.synechisveltiosi.tms.api.exception.ResourceNotFoundException;
+
+public class TimesheetGenerationNotFoundException extends ResourceNotFoundException {
+    public TimesheetGenerationNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.synechisveltiosi.tms.api.request;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TimesheetBulkApprovalRequest(
+        @NotEmpty(message = "Timesheet ids cannot be empty")
+        @Size(max = 500, message = "Cannot decide more than 500 timesheets at once")
+        List<@NotNull(message = "Timesheet id cannot be null") UUID> timesheetIds,
+        @NotNull(message = "Status cannot be null")
+        TimesheetStatus status,
+        String comments) {
+}
@@ -0,0 +1,15 @@
+package com.synechisveltiosi.tms.api.response;
+
+import java.io.Serializable;
+
+/**
+ * Hit/miss counters of one second-level cache region since startup.
+ */
+public record CacheRegionStatisticsDto(String region, long hitCount, long missCount, long putCount,
+                                       long elementCountInMemory) implements Serializable {
+
+    public double hitRatio() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+}
@@ -1,9 +1,11 @@
 package com.synechisveltiosi.tms.api.response;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 
 /**
  * DTO for {@link com.synechisveltiosi.tms.model.entity.Holiday}
  */
-public record HolidayDto(Long id, String name, String description, String date) implements Serializable {
-}
\ No newline at end of file
+public record HolidayDto(Long id, String name, String description, LocalDate date, String country,
+                         String state) implements Serializable {
+}
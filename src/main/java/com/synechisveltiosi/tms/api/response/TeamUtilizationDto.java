@@ -0,0 +1,14 @@
+package com.synechisveltiosi.tms.api.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reported hours of a manager's team per ISO week, with the billable share of the worked hours over the range.
+ */
+public record TeamUtilizationDto(UUID managerId, int employees, double billableRatio, List<Week> weeks) {
+
+    public record Week(LocalDate weekStart, float workedHours, float billableHours, float absenceHours) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.synechisveltiosi.tms.api.response;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetDecisionOutcome;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a bulk approval: the decision applied, how many timesheets it changed, and the outcome for each
+ * requested id in request order.
+ */
+public record TimesheetBulkApprovalDto(TimesheetStatus status, int updated, List<Outcome> outcomes) implements Serializable {
+
+    /**
+     * @param currentStatus the status of the timesheet after the request, {@code null} if it does not exist
+     */
+    public record Outcome(UUID timesheetId, TimesheetDecisionOutcome outcome, TimesheetStatus currentStatus)
+            implements Serializable {
+    }
+}
@@ -0,0 +1,19 @@
+package com.synechisveltiosi.tms.api.response;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Summary of a timesheet generation run.
+ */
+public record TimesheetGenerationDto(LocalDate startDate, LocalDate endDate, long processed, long created,
+                                     long elapsedMillis, List<String> failures) implements Serializable {
+    public double employeesPerSecond() {
+        return elapsedMillis == 0 ? processed : processed * 1000d / elapsedMillis;
+    }
+
+    public boolean failed() {
+        return !failures.isEmpty();
+    }
+}
@@ -0,0 +1,16 @@
+package com.synechisveltiosi.tms.api.response;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetGenerationStatus;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Status of an asynchronous timesheet generation run.
+ */
+public record TimesheetGenerationJobDto(UUID id, LocalDate startDate, LocalDate endDate,
+                                        TimesheetGenerationStatus status, long processed, long total,
+                                        long elapsedMillis, List<String> failures) implements Serializable {
+}
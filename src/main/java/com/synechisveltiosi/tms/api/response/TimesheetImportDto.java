@@ -0,0 +1,22 @@
+package com.synechisveltiosi.tms.api.response;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetImportRejection;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Result of a CSV import: row counts, the timesheets created for weeks that had none, and the rejected rows in
+ * file order, capped at the first {@code TimesheetImportService.MAX_REPORTED_REJECTIONS}.
+ */
+public record TimesheetImportDto(TimesheetStatus status, long rows, long imported, long rejected,
+                                 int timesheetsCreated, long elapsedMillis, List<Rejection> rejections)
+        implements Serializable {
+
+    /**
+     * @param line the line of the row in the file, the header being line 1
+     */
+    public record Rejection(long line, TimesheetImportRejection reason) implements Serializable {
+    }
+}
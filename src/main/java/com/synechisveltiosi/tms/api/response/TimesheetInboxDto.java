@@ -0,0 +1,16 @@
+package com.synechisveltiosi.tms.api.response;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.TimesheetSummary;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of a manager's approval inbox with the number of waiting timesheets per status across the whole
+ * inbox. {@code nextCursor} is {@code null} on the last page.
+ */
+public record TimesheetInboxDto(Map<TimesheetStatus, Long> counts, List<TimesheetSummary> content,
+                                String nextCursor) implements Serializable {
+}
@@ -0,0 +1,10 @@
+package com.synechisveltiosi.tms.api.response;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated timesheet listing. {@code nextCursor} is {@code null} on the last page.
+ */
+public record TimesheetSliceDto(List<TimesheetDto> content, String nextCursor) implements Serializable {
+}
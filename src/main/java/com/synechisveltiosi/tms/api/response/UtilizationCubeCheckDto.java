@@ -0,0 +1,12 @@
+package com.synechisveltiosi.tms.api.response;
+
+import java.time.LocalDate;
+
+/**
+ * Result of comparing the in-memory utilization cube with the database.
+ *
+ * @param droppedEntries day entries dropped since start because they fell outside the window
+ */
+public record UtilizationCubeCheckDto(LocalDate firstWeek, int weeks, int employees, long sizeInBytes,
+                                      long mismatchedCells, long droppedEntries, boolean rebuilt) {
+}
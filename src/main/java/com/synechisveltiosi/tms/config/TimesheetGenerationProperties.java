@@ -0,0 +1,22 @@
+package com.synechisveltiosi.tms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning knobs for weekly timesheet generation.
+ *
+ * @param chunkSize        employees written per transaction
+ * @param partitions       number of id ranges the employee set is split into
+ * @param maxConcurrency   partitions generated at the same time; keep below the connection pool size
+ * @param partitionRetries times a failed partition is resumed from its last committed chunk
+ * @param clustered        fan partitions out as Quartz sub-jobs that any node of the cluster can claim
+ */
+@ConfigurationProperties(prefix = "tms.timesheet.generation")
+public record TimesheetGenerationProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("16") int partitions,
+        @DefaultValue("8") int maxConcurrency,
+        @DefaultValue("3") int partitionRetries,
+        @DefaultValue("false") boolean clustered) {
+}
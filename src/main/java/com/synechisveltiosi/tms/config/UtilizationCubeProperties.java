@@ -0,0 +1,21 @@
+package com.synechisveltiosi.tms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Window of the in-memory utilization cube. Memory is employees x weeks x entry types x 4 bytes, about 320 MB for
+ * 50,000 employees over the default five years, allocated in blocks of 256 employees as they first report hours.
+ *
+ * @param historyWeeks weeks before the current one held in the cube
+ * @param futureWeeks  weeks after the current one held in the cube, for timesheets submitted ahead
+ */
+@ConfigurationProperties(prefix = "tms.utilization")
+public record UtilizationCubeProperties(
+        @DefaultValue("260") int historyWeeks,
+        @DefaultValue("8") int futureWeeks) {
+
+    public int weeks() {
+        return historyWeeks + 1 + futureWeeks;
+    }
+}
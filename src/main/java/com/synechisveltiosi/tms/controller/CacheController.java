@@ -0,0 +1,40 @@
+package com.synechisveltiosi.tms.controller;
+
+import com.synechisveltiosi.tms.api.constants.url.URLConstants;
+import com.synechisveltiosi.tms.api.response.CacheRegionStatisticsDto;
+import com.synechisveltiosi.tms.service.CacheStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(URLConstants.CacheEndpoint.BASE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+@Tag(name = "Cache", description = "Second-level cache API")
+public class CacheController {
+    private final CacheStatisticsService cacheStatisticsService;
+
+    /**
+     * Returns the hit, miss and put counters of every second-level cache region, used to size the regions.
+     *
+     * @return A {@link ResponseEntity} containing one {@link CacheRegionStatisticsDto} per region.
+     */
+    @Operation(
+            summary = "Get cache statistics",
+            description = "Retrieves hit/miss counters of the second-level cache regions"
+    )
+    @ApiResponse(responseCode = "200", description = "Cache statistics successfully retrieved")
+    @GetMapping(URLConstants.CacheEndpoint.STATISTICS)
+    public ResponseEntity<List<CacheRegionStatisticsDto>> getCacheStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getRegionStatistics());
+    }
+}
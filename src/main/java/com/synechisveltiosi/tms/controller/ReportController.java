@@ -0,0 +1,53 @@
+package com.synechisveltiosi.tms.controller;
+
+import com.synechisveltiosi.tms.api.constants.url.URLConstants;
+import com.synechisveltiosi.tms.model.projection.WeeklyHours;
+import com.synechisveltiosi.tms.service.HoursRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static com.synechisveltiosi.tms.api.constants.swagger.ResourceConstants.RESOURCE_INVALID_DATA;
+import static com.synechisveltiosi.tms.api.constants.swagger.TimesheetConstants.PROJECT_ID_DESC;
+
+@RestController
+@RequestMapping(URLConstants.ReportEndpoint.BASE)
+@RequiredArgsConstructor
+@Tag(name = "Report", description = "Reporting API")
+public class ReportController {
+    private final HoursRollupService hoursRollupService;
+
+    /**
+     * Retrieves the hours booked on a project per ISO week and entry type, read from the hours rollup.
+     *
+     * @param projectId The unique identifier of the project to report on.
+     * @param from      A date in the first week to include.
+     * @param to        A date in the last week to include.
+     * @return A {@link ResponseEntity} containing one {@link WeeklyHours} per week and entry type with hours.
+     */
+    @Operation(
+            summary = "Get weekly project hours",
+            description = "Retrieves submitted and approved hours of a project per week and entry type"
+    )
+    @ApiResponse(responseCode = "200", description = "Project hours successfully retrieved",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = WeeklyHours.class))))
+    @ApiResponse(responseCode = "400", description = RESOURCE_INVALID_DATA)
+    @GetMapping(URLConstants.ReportEndpoint.HOURS_BY_PROJECT_ID)
+    public ResponseEntity<List<WeeklyHours>> getProjectWeeklyHours(
+            @PathVariable("projectId") @Parameter(description = PROJECT_ID_DESC, required = true) UUID projectId,
+            @RequestParam @Parameter(description = "from") LocalDate from,
+            @RequestParam @Parameter(description = "to") LocalDate to) {
+        return ResponseEntity.ok(hoursRollupService.getProjectWeeklyHours(projectId, from, to));
+    }
+}
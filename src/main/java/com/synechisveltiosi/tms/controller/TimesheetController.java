@@ -2,9 +2,21 @@ package com.synechisveltiosi.tms.controller;
 
 import com.synechisveltiosi.tms.api.constants.url.URLConstants;
 import com.synechisveltiosi.tms.api.request.TimesheetApprovalRequest;
+import com.synechisveltiosi.tms.api.request.TimesheetBulkApprovalRequest;
 import com.synechisveltiosi.tms.api.request.TimesheetRequest;
+import com.synechisveltiosi.tms.api.response.TimesheetBulkApprovalDto;
 import com.synechisveltiosi.tms.api.response.TimesheetDto;
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationJobDto;
+import com.synechisveltiosi.tms.api.response.TimesheetImportDto;
+import com.synechisveltiosi.tms.api.response.TimesheetInboxDto;
+import com.synechisveltiosi.tms.api.response.TimesheetSliceDto;
 import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.TimesheetEntryExportRow;
+import com.synechisveltiosi.tms.service.TimesheetApprovalService;
+import com.synechisveltiosi.tms.service.TimesheetExportService;
+import com.synechisveltiosi.tms.service.TimesheetGenerationJobService;
+import com.synechisveltiosi.tms.service.TimesheetImportService;
+import com.synechisveltiosi.tms.service.TimesheetQueryService;
 import com.synechisveltiosi.tms.service.TimesheetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,21 +24,34 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static com.synechisveltiosi.tms.api.constants.swagger.EmployeeConstants.DIRECT_REPORTS_DESC;
 import static com.synechisveltiosi.tms.api.constants.swagger.EmployeeConstants.EMPLOYEE_ID_DESC;
+import static com.synechisveltiosi.tms.api.constants.swagger.EmployeeConstants.MANAGER_ID_DESC;
 import static com.synechisveltiosi.tms.api.constants.swagger.EmployeeConstants.TIMESHEET_STATUS_DESC;
+import static com.synechisveltiosi.tms.api.constants.swagger.ResourceConstants.CURSOR_DESC;
+import static com.synechisveltiosi.tms.api.constants.swagger.ResourceConstants.INVALID_TRANSITION;
+import static com.synechisveltiosi.tms.api.constants.swagger.ResourceConstants.PAGE_SIZE_DESC;
+import static com.synechisveltiosi.tms.api.constants.swagger.ResourceConstants.RESOURCE_CONFLICT;
 import static com.synechisveltiosi.tms.api.constants.swagger.ResourceConstants.RESOURCE_INVALID_DATA;
 import static com.synechisveltiosi.tms.api.constants.swagger.ResourceConstants.RESOURCE_NOT_FOUND;
+import static com.synechisveltiosi.tms.api.constants.swagger.TimesheetConstants.GENERATION_JOB_ID_DESC;
 import static com.synechisveltiosi.tms.api.constants.swagger.TimesheetConstants.TIMESHEET_ID_DESC;
 
 
@@ -36,8 +61,13 @@ import static com.synechisveltiosi.tms.api.constants.swagger.TimesheetConstants.
 @Slf4j
 @Tag(name = "Timesheet", description = "Timesheet API")
 public class TimesheetController {
-
+    private static final String TEXT_CSV_VALUE = "text/csv";
     private final TimesheetService timesheetService;
+    private final TimesheetGenerationJobService timesheetGenerationJobService;
+    private final TimesheetQueryService timesheetQueryService;
+    private final TimesheetExportService timesheetExportService;
+    private final TimesheetApprovalService timesheetApprovalService;
+    private final TimesheetImportService timesheetImportService;
 
     /**
      * Creates a new timesheet for the specified employee with the given status.
@@ -71,25 +101,95 @@ public class TimesheetController {
     }
 
     /**
-     * Generates a list of timesheets with "Created" status for all employees within the specified date range.
+     * Starts generating timesheets with "Created" status for all employees within the specified date range.
+     * Generation runs in the background; a request for a period that is already being generated joins that run.
      *
      * @param startDate The start date of the timesheet generation period.
      * @param endDate   The end date of the timesheet generation period.
-     * @return A {@link ResponseEntity} containing a success message as a string.
+     * @return A {@link ResponseEntity} containing the {@link TimesheetGenerationJobDto} handle of the run.
      */
     @Operation(
             summary = "Generate timesheet",
-            description = "Generate list of timesheet with created status for the all employee"
+            description = "Start generating timesheets with created status for all employees"
     )
     @ApiResponse(responseCode = "400", description = RESOURCE_INVALID_DATA)
+    @ApiResponse(responseCode = "202", description = "Timesheet generation accepted",
+            content = @Content(schema = @Schema(implementation = TimesheetGenerationJobDto.class)))
+    @PostMapping(URLConstants.TimesheetEndpoint.GENERATE)
+    public ResponseEntity<TimesheetGenerationJobDto> generateTimesheets(@RequestParam @Parameter(description = "startDate") LocalDate startDate,
+                                                                       @RequestParam @Parameter(description = "lastDate") LocalDate endDate) {
+        TimesheetGenerationJobDto job = timesheetGenerationJobService.submit(startDate, endDate);
+        return ResponseEntity
+                .accepted()
+                .location(URI.create(URLConstants.TimesheetEndpoint.BASE + URLConstants.TimesheetEndpoint.GENERATE + "/" + job.id()))
+                .body(job);
+    }
+
+    /**
+     * Retrieves the progress of a timesheet generation run.
+     *
+     * @param jobId The unique identifier of the generation run.
+     * @return A {@link ResponseEntity} containing the {@link TimesheetGenerationJobDto} with processed/total counts.
+     */
+    @Operation(
+            summary = "Get timesheet generation status",
+            description = "Retrieves processed/total counts, elapsed time and failures of a generation run"
+    )
+    @ApiResponse(responseCode = "200", description = "Timesheet generation status retrieved",
+            content = @Content(schema = @Schema(implementation = TimesheetGenerationJobDto.class)))
     @ApiResponse(responseCode = "404", description = RESOURCE_NOT_FOUND)
-    @ApiResponse(responseCode = "200", description = "Timesheet successfully created",
-            content = @Content(schema = @Schema(implementation = String.class)))
-    @PostMapping("/generate")
-    public ResponseEntity<String> generateTimesheets(@RequestParam @Parameter(description = "startDate") LocalDate startDate,
-                                                     @RequestParam @Parameter(description = "lastDate") LocalDate endDate) {
-        timesheetService.generateTimesheets(startDate, endDate);
-        return ResponseEntity.ok("timesheet Generated Successfully");
+    @GetMapping(URLConstants.TimesheetEndpoint.GENERATE_BY_JOB_ID)
+    public ResponseEntity<TimesheetGenerationJobDto> getGenerationStatus(
+            @PathVariable("jobId") @Parameter(description = GENERATION_JOB_ID_DESC, required = true) UUID jobId) {
+        return ResponseEntity.ok(timesheetGenerationJobService.getJob(jobId));
+    }
+
+    /**
+     * Streams every timesheet entry dated within the specified range as newline-delimited JSON.
+     *
+     * @param from     The first entry date to export.
+     * @param to       The last entry date to export.
+     * @param response The response the entries are written to as they are read.
+     */
+    @Operation(
+            summary = "Export timesheet entries",
+            description = "Streams all timesheet entries within the date range as newline-delimited JSON"
+    )
+    @ApiResponse(responseCode = "200", description = "Timesheet entries exported",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TimesheetEntryExportRow.class)))
+    @ApiResponse(responseCode = "400", description = RESOURCE_INVALID_DATA)
+    @GetMapping(value = URLConstants.TimesheetEndpoint.EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportTimesheetEntries(@RequestParam @Parameter(description = "from") LocalDate from,
+                                       @RequestParam @Parameter(description = "to") LocalDate to,
+                                       HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        timesheetExportService.exportEntries(from, to, response.getOutputStream());
+    }
+
+    /**
+     * Imports timesheet entries from a CSV body with the header {@code employee_id,task_id,date,entry_type,hours}.
+     * The body is streamed to the database as it is received; rows that cannot be imported are reported with a reason.
+     *
+     * @param status  The status every imported timesheet is left in, either drafted or submitted.
+     * @param from    The earliest entry date accepted.
+     * @param to      The latest entry date accepted.
+     * @param request The request whose body is the CSV file.
+     * @return A {@link ResponseEntity} containing the {@link TimesheetImportDto} with counts and rejected rows.
+     */
+    @Operation(
+            summary = "Import timesheet entries",
+            description = "Bulk imports timesheet entries from CSV into drafted or submitted timesheets"
+    )
+    @ApiResponse(responseCode = "200", description = "Timesheet entries imported",
+            content = @Content(schema = @Schema(implementation = TimesheetImportDto.class)))
+    @ApiResponse(responseCode = "400", description = RESOURCE_INVALID_DATA)
+    @PostMapping(value = URLConstants.TimesheetEndpoint.IMPORT, consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<TimesheetImportDto> importTimesheetEntries(
+            @RequestParam @Parameter(description = TIMESHEET_STATUS_DESC) TimesheetStatus status,
+            @RequestParam @Parameter(description = "from") LocalDate from,
+            @RequestParam @Parameter(description = "to") LocalDate to,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(timesheetImportService.importEntries(request.getInputStream(), status, from, to));
     }
 
     /**
@@ -113,10 +213,70 @@ public class TimesheetController {
     @GetMapping(URLConstants.TimesheetEndpoint.BY_EMP_ID)
     public ResponseEntity<List<TimesheetDto>> getAllTimesheetsByEmployeeId(
             @PathVariable("empId") @Parameter(description = EMPLOYEE_ID_DESC, required = true) UUID empId) {
-        List<TimesheetDto> timesheetDos = timesheetService.getAllTimesheetByEmployeeId(empId);
+        List<TimesheetDto> timesheetDos = timesheetQueryService.getAllTimesheetByEmployeeId(empId);
         return ResponseEntity.ok(timesheetDos);
     }
 
+    /**
+     * Retrieves one page of the specified employee's timesheets, newest first, optionally limited to a date range.
+     *
+     * @param empId  The unique identifier of the employee whose timesheets are to be retrieved.
+     * @param from   The earliest timesheet start date to include.
+     * @param to     The latest timesheet start date to include.
+     * @param cursor The {@code nextCursor} of the previous page, or nothing for the first page.
+     * @param size   The maximum number of timesheets in the page.
+     * @return A {@link ResponseEntity} containing a {@link TimesheetSliceDto} with the page and the next cursor.
+     */
+    @Operation(
+            summary = "Get timesheet history by employee id",
+            description = "Retrieves a page of timesheets for the specified employee, filtered by start date"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Timesheets successfully retrieved",
+            content = @Content(schema = @Schema(implementation = TimesheetSliceDto.class))
+    )
+    @ApiResponse(responseCode = "400", description = RESOURCE_INVALID_DATA)
+    @GetMapping(URLConstants.TimesheetEndpoint.BY_EMP_ID_HISTORY)
+    public ResponseEntity<TimesheetSliceDto> getTimesheetHistoryByEmployeeId(
+            @PathVariable("empId") @Parameter(description = EMPLOYEE_ID_DESC, required = true) UUID empId,
+            @RequestParam(required = false) @Parameter(description = "from") LocalDate from,
+            @RequestParam(required = false) @Parameter(description = "to") LocalDate to,
+            @RequestParam(required = false) @Parameter(description = CURSOR_DESC) String cursor,
+            @RequestParam(defaultValue = "20") @Parameter(description = PAGE_SIZE_DESC) int size) {
+        return ResponseEntity.ok(timesheetQueryService.getTimesheetHistoryByEmployeeId(empId, from, to, cursor, size));
+    }
+
+    /**
+     * Retrieves the timesheets awaiting a decision from the direct or transitive reports of the specified manager.
+     *
+     * @param managerId   The unique identifier of the manager whose inbox is to be retrieved.
+     * @param directOnly  Whether only direct reports are included.
+     * @param status      The statuses to list; all statuses awaiting a decision when omitted.
+     * @param cursor      The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size        The maximum number of timesheets in the page.
+     * @return A {@link ResponseEntity} containing a {@link TimesheetInboxDto} with the counts, page and next cursor.
+     */
+    @Operation(
+            summary = "Get manager approval inbox",
+            description = "Retrieves a page of timesheets awaiting a decision from the manager's reports, with counts per status"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Inbox successfully retrieved",
+            content = @Content(schema = @Schema(implementation = TimesheetInboxDto.class))
+    )
+    @ApiResponse(responseCode = "400", description = RESOURCE_INVALID_DATA)
+    @GetMapping(URLConstants.TimesheetEndpoint.INBOX_BY_MANAGER_ID)
+    public ResponseEntity<TimesheetInboxDto> getApprovalInbox(
+            @PathVariable("managerId") @Parameter(description = MANAGER_ID_DESC, required = true) UUID managerId,
+            @RequestParam(defaultValue = "false") @Parameter(description = DIRECT_REPORTS_DESC) boolean directOnly,
+            @RequestParam(required = false) @Parameter(description = TIMESHEET_STATUS_DESC) Set<TimesheetStatus> status,
+            @RequestParam(required = false) @Parameter(description = CURSOR_DESC) String cursor,
+            @RequestParam(defaultValue = "20") @Parameter(description = PAGE_SIZE_DESC) int size) {
+        return ResponseEntity.ok(timesheetQueryService.getApprovalInbox(managerId, directOnly, status, cursor, size));
+    }
+
     /**
      * Retrieves the timesheet based on the provided timesheet ID.
      *
@@ -139,7 +299,7 @@ public class TimesheetController {
     @GetMapping(URLConstants.TimesheetEndpoint.BY_TMS_ID)
     public ResponseEntity<TimesheetDto> getAllTimesheetsByTimesheetById(
             @PathVariable("tmsId") @Parameter(description = EMPLOYEE_ID_DESC, required = true) UUID tmsId) {
-        TimesheetDto timesheetDto = timesheetService.getTimesheetByTimesheetById(tmsId);
+        TimesheetDto timesheetDto = timesheetQueryService.getTimesheetById(tmsId);
         return ResponseEntity.ok(timesheetDto);
     }
 
@@ -160,6 +320,8 @@ public class TimesheetController {
             content = @Content(schema = @Schema(implementation = TimesheetDto.class)))
     @ApiResponse(responseCode = "404", description = RESOURCE_NOT_FOUND)
     @ApiResponse(responseCode = "400", description = RESOURCE_INVALID_DATA)
+    @ApiResponse(responseCode = "409", description = RESOURCE_CONFLICT)
+    @ApiResponse(responseCode = "422", description = INVALID_TRANSITION)
     @PostMapping(URLConstants.TimesheetEndpoint.BY_TMS_ID_EMP_ID)
     public ResponseEntity<TimesheetDto> approveTimesheet(
             @PathVariable("tmsId") @Parameter(description = TIMESHEET_ID_DESC, required = true) UUID tmsId,
@@ -168,4 +330,27 @@ public class TimesheetController {
         TimesheetDto timesheetDto = timesheetService.approveTimesheet(tmsId, empId, timesheetApprovalRequest);
         return ResponseEntity.ok(timesheetDto);
     }
+
+    /**
+     * Applies one approval decision to many timesheets for the specified employee approver.
+     * Timesheets that do not exist or are not awaiting a decision are left unchanged and reported in the summary.
+     *
+     * @param empId               The unique identifier of the employee who is deciding the timesheets.
+     * @param bulkApprovalRequest The request payload containing the timesheet ids, the decision and comments.
+     * @return A {@link ResponseEntity} containing the {@link TimesheetBulkApprovalDto} outcome per timesheet.
+     */
+    @Operation(
+            summary = "Approve or reject timesheets in bulk",
+            description = "Approve or reject a list of timesheets for employeeApproverId"
+    )
+    @ApiResponse(responseCode = "200", description = "Timesheet decisions applied",
+            content = @Content(schema = @Schema(implementation = TimesheetBulkApprovalDto.class)))
+    @ApiResponse(responseCode = "404", description = RESOURCE_NOT_FOUND)
+    @ApiResponse(responseCode = "400", description = RESOURCE_INVALID_DATA)
+    @PostMapping(URLConstants.TimesheetEndpoint.BULK_APPROVE_BY_EMP_ID)
+    public ResponseEntity<TimesheetBulkApprovalDto> decideTimesheets(
+            @PathVariable("empId") @Parameter(description = EMPLOYEE_ID_DESC, required = true) UUID empId,
+            @Valid @RequestBody TimesheetBulkApprovalRequest bulkApprovalRequest) {
+        return ResponseEntity.ok(timesheetApprovalService.decideTimesheets(empId, bulkApprovalRequest));
+    }
 }
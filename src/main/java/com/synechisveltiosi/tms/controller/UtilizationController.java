@@ -0,0 +1,73 @@
+package com.synechisveltiosi.tms.controller;
+
+import com.synechisveltiosi.tms.api.constants.url.URLConstants;
+import com.synechisveltiosi.tms.api.response.TeamUtilizationDto;
+import com.synechisveltiosi.tms.api.response.UtilizationCubeCheckDto;
+import com.synechisveltiosi.tms.service.UtilizationCubeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static com.synechisveltiosi.tms.api.constants.swagger.EmployeeConstants.DIRECT_REPORTS_DESC;
+import static com.synechisveltiosi.tms.api.constants.swagger.EmployeeConstants.MANAGER_ID_DESC;
+import static com.synechisveltiosi.tms.api.constants.swagger.ResourceConstants.RESOURCE_INVALID_DATA;
+
+@RestController
+@RequestMapping(URLConstants.UtilizationEndpoint.BASE)
+@RequiredArgsConstructor
+@Tag(name = "Utilization", description = "Utilization dashboard API")
+public class UtilizationController {
+    private final UtilizationCubeService utilizationCubeService;
+
+    /**
+     * Retrieves the weekly worked, billable and absence hours of a manager's team from the in-memory cube.
+     *
+     * @param managerId  The unique identifier of the manager whose team is reported on.
+     * @param directOnly Whether only direct reports are included.
+     * @param from       A date in the first week to include.
+     * @param to         A date in the last week to include.
+     * @return A {@link ResponseEntity} containing the {@link TeamUtilizationDto} of the team.
+     */
+    @Operation(
+            summary = "Get team utilization",
+            description = "Retrieves weekly hours and the billable ratio of the manager's reports"
+    )
+    @ApiResponse(responseCode = "200", description = "Team utilization successfully retrieved",
+            content = @Content(schema = @Schema(implementation = TeamUtilizationDto.class)))
+    @ApiResponse(responseCode = "400", description = RESOURCE_INVALID_DATA)
+    @GetMapping(URLConstants.UtilizationEndpoint.TEAM_BY_MANAGER_ID)
+    public ResponseEntity<TeamUtilizationDto> getTeamUtilization(
+            @PathVariable("managerId") @Parameter(description = MANAGER_ID_DESC, required = true) UUID managerId,
+            @RequestParam(defaultValue = "false") @Parameter(description = DIRECT_REPORTS_DESC) boolean directOnly,
+            @RequestParam @Parameter(description = "from") LocalDate from,
+            @RequestParam @Parameter(description = "to") LocalDate to) {
+        return ResponseEntity.ok(utilizationCubeService.getTeamUtilization(managerId, directOnly, from, to));
+    }
+
+    /**
+     * Compares the in-memory cube with the database and optionally replaces it with a fresh build.
+     *
+     * @param rebuild Whether the cube is rebuilt after the comparison.
+     * @return A {@link ResponseEntity} containing the {@link UtilizationCubeCheckDto} with the drifted cell count.
+     */
+    @Operation(
+            summary = "Verify utilization cube",
+            description = "Counts cells that drifted from the database and optionally rebuilds the cube"
+    )
+    @ApiResponse(responseCode = "200", description = "Utilization cube verified",
+            content = @Content(schema = @Schema(implementation = UtilizationCubeCheckDto.class)))
+    @PostMapping(URLConstants.UtilizationEndpoint.VERIFY)
+    public ResponseEntity<UtilizationCubeCheckDto> verifyCube(
+            @RequestParam(defaultValue = "false") @Parameter(description = "rebuild") boolean rebuild) {
+        return ResponseEntity.ok(utilizationCubeService.verify(rebuild));
+    }
+}
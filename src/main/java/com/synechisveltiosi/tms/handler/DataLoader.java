@@ -11,6 +11,7 @@ import com.synechisveltiosi.tms.repository.TimesheetRepository;
 import com.synechisveltiosi.tms.service.TimesheetService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -22,6 +23,7 @@ import java.util.stream.Stream;
 
 @Component
 @Order(1)
+@ConditionalOnProperty(name = "tms.data-loader.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 public class DataLoader implements CommandLineRunner {
     private final EmployeeRepository employeeRepository;
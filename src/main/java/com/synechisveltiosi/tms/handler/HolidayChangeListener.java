@@ -0,0 +1,26 @@
+package com.synechisveltiosi.tms.handler;
+
+import com.synechisveltiosi.tms.model.entity.Holiday;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on {@link Holiday} that turns every write into a {@link HolidaysChangedEvent} so the holiday
+ * calendar can be rebuilt once the change commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class HolidayChangeListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onHolidayChanged(Holiday holiday) {
+        eventPublisher.publishEvent(new HolidaysChangedEvent(holiday.getId()));
+    }
+}
@@ -0,0 +1,7 @@
+package com.synechisveltiosi.tms.handler;
+
+/**
+ * Published whenever a {@link com.synechisveltiosi.tms.model.entity.Holiday} is created, updated or deleted.
+ */
+public record HolidaysChangedEvent(Long holidayId) {
+}
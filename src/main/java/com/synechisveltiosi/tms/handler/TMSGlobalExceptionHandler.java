@@ -1,5 +1,6 @@
 package com.synechisveltiosi.tms.handler;
 
+import com.synechisveltiosi.tms.api.exception.ResourceConflictException;
 import com.synechisveltiosi.tms.api.exception.ResourceCreationException;
 import com.synechisveltiosi.tms.api.exception.ResourceNotFoundException;
 import com.synechisveltiosi.tms.api.exception.ResourceUpdateException;
@@ -7,11 +8,14 @@ import com.synechisveltiosi.tms.api.exception.ResourceValidationException;
 import com.synechisveltiosi.tms.api.exception.employee.EmployeeCreationException;
 import com.synechisveltiosi.tms.api.exception.employee.EmployeeNotFoundException;
 import com.synechisveltiosi.tms.api.exception.employee.EmployeeValidationException;
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetConflictException;
 import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetCreationException;
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetGenerationNotFoundException;
 import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetNotFoundException;
 import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetUpdateException;
 import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -60,6 +64,34 @@ public final class TMSGlobalExceptionHandler extends ResponseEntityExceptionHand
         return "Resource Update Failed";
     }
 
+    @ExceptionHandler(ResourceConflictException.class)
+    public ProblemDetail handleResourceConflict(final ResourceConflictException ex,
+                                                final HttpServletRequest request) {
+        return createProblemDetail(
+                ex.getMessage(),
+                HttpStatus.CONFLICT,
+                getResourceConflictTitle(ex),
+                request
+        );
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLockingFailure(final OptimisticLockingFailureException ex,
+                                                        final HttpServletRequest request) {
+        return createProblemDetail(
+                "The resource was changed concurrently, reload it and retry",
+                HttpStatus.CONFLICT,
+                "Concurrent Update Conflict",
+                request
+        );
+    }
+
+    private String getResourceConflictTitle(ResourceConflictException ex) {
+        if (ex instanceof TimesheetConflictException) {
+            return "Timesheet Update Conflict";
+        }
+        return "Resource Update Conflict";
+    }
 
     @ExceptionHandler(ResourceValidationException.class)
     public ProblemDetail handleResourceValidationException(final ResourceValidationException ex,
@@ -111,6 +143,8 @@ public final class TMSGlobalExceptionHandler extends ResponseEntityExceptionHand
             return "Employee Not Found";
         } else if (ex instanceof TimesheetNotFoundException) {
             return "Timesheet Not Found";
+        } else if (ex instanceof TimesheetGenerationNotFoundException) {
+            return "Timesheet Generation Not Found";
         }
         return "Resource Not Found";
     }
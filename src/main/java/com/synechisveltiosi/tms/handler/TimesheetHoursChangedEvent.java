@@ -0,0 +1,12 @@
+package com.synechisveltiosi.tms.handler;
+
+import com.synechisveltiosi.tms.model.projection.EntryHours;
+
+import java.util.List;
+
+/**
+ * Published when timesheets enter or leave the reported statuses; {@code weight} is 1 when their hours are added
+ * and -1 when they are retracted.
+ */
+public record TimesheetHoursChangedEvent(List<EntryHours> hours, int weight) {
+}
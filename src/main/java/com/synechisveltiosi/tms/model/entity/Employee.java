@@ -3,6 +3,8 @@ package com.synechisveltiosi.tms.model.entity;
 import com.synechisveltiosi.tms.model.embed.PersonDetails;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.io.Serializable;
@@ -11,6 +13,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
 @Table(name = "employee")
 @Getter
 @Setter
@@ -18,7 +21,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Employee implements Serializable {
+    public static final String CACHE_REGION = "tms.employee";
 
+    /**
+     * Random rather than time-ordered: {@link com.synechisveltiosi.tms.model.projection.EmployeeKeyRange#split}
+     * relies on ids being spread evenly over the key space to balance the generation partitions.
+     */
     @Id
     @UuidGenerator
     private UUID id;
@@ -44,7 +52,7 @@ public class Employee implements Serializable {
     @Builder.Default
     private List<Timesheet> timesheets = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinTable(
             name = "employee_manager",
             joinColumns = @JoinColumn(name = "employee_id"),
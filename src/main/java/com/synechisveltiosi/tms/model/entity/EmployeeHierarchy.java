@@ -0,0 +1,42 @@
+package com.synechisveltiosi.tms.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Closure of the {@link Employee#getManager()} relation: one row per (ancestor, descendant) pair, including each
+ * employee with itself at depth 0. Rows are maintained by database triggers on {@code employee} and
+ * {@code employee_manager} (see {@code db/employee-hierarchy.sql}), so the entity is read-only.
+ */
+@Entity
+@Immutable
+@IdClass(EmployeeHierarchy.Key.class)
+@Table(name = "employee_hierarchy",
+        indexes = @Index(name = "idx_employee_hierarchy_descendant", columnList = "descendant_id, depth"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHierarchy implements Serializable {
+    @Id
+    @Column(name = "ancestor_id")
+    private UUID ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private UUID descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID ancestorId;
+        private UUID descendantId;
+    }
+}
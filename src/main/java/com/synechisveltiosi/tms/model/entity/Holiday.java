@@ -1,22 +1,36 @@
 package com.synechisveltiosi.tms.model.entity;
 
+import com.synechisveltiosi.tms.handler.HolidayChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 
+/**
+ * A public holiday. A holiday without a country applies everywhere, one without a state applies to the whole
+ * country.
+ */
 @Entity
-@Table(name = "holiday", uniqueConstraints = @UniqueConstraint(columnNames = {"name", "date"}))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Holiday.CACHE_REGION)
+@EntityListeners(HolidayChangeListener.class)
+@Table(name = "holiday", uniqueConstraints = @UniqueConstraint(columnNames = {"name", "date", "country", "state"}))
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Holiday implements Serializable {
+    public static final String CACHE_REGION = "tms.holiday";
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holiday_seq")
+    @SequenceGenerator(name = "holiday_seq", sequenceName = "holiday_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String description;
-    private String date;
+    private LocalDate date;
+    private String country;
+    private String state;
 }
@@ -0,0 +1,56 @@
+package com.synechisveltiosi.tms.model.entity;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Hours of reported timesheets summed per (project, task, employee, ISO week, entry type). Rows are adjusted
+ * set-wise by {@code HoursRollupRepository#addTimesheets} whenever a timesheet is submitted or decided, so the
+ * entity is read-only. Entries without a task are rolled up with a {@code null} project and task; the natural key
+ * is a {@code NULLS NOT DISTINCT} unique index created by {@code db/hours-rollup.sql}.
+ */
+@Entity
+@Immutable
+@Table(name = "hours_rollup")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoursRollup implements Serializable {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    /**
+     * Monday of the ISO week.
+     */
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type")
+    private TimesheetEntryType entryType;
+
+    @Column(name = "total_hours", nullable = false)
+    private double totalHours;
+
+    @Column(name = "approved_hours", nullable = false)
+    private double approvedHours;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+}
@@ -3,16 +3,16 @@ package com.synechisveltiosi.tms.model.entity;
 
 import com.synechisveltiosi.tms.model.enums.LeaveStatus;
 import com.synechisveltiosi.tms.model.enums.LeaveType;
+import com.synechisveltiosi.tms.model.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "leave")
+@Table(name = "leave", indexes = @Index(name = "idx_leave_employee_dates", columnList = "employee_id, start_date, end_date"))
 @Getter
 @Setter
 @Builder
@@ -20,7 +20,7 @@ import java.util.UUID;
 @AllArgsConstructor
 public class Leave implements Serializable {
     @Id
-    @UuidGenerator
+    @TimeOrderedUuid
     private UUID id;
 
     private LocalDate startDate;
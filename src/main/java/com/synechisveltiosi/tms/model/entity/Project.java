@@ -1,11 +1,13 @@
 package com.synechisveltiosi.tms.model.entity;
 
+import com.synechisveltiosi.tms.model.id.TimeOrderedUuid;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -13,6 +15,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Project.CACHE_REGION)
 @Table(name = "project")
 @Getter
 @Setter
@@ -20,9 +23,10 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Project implements Serializable {
+    public static final String CACHE_REGION = "tms.project";
 
     @Id
-    @UuidGenerator
+    @TimeOrderedUuid
     private UUID id;
 
     private String name;
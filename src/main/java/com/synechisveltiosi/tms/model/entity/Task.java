@@ -2,12 +2,15 @@ package com.synechisveltiosi.tms.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
 @Table(name = "task")
 @Getter
 @Setter
@@ -15,9 +18,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task implements Serializable {
+    public static final String CACHE_REGION = "tms.task";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -27,17 +32,7 @@ public class Task implements Serializable {
     @Builder.Default
     private List<Employee> employees = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
-
-    @OneToMany(mappedBy = "task", cascade = CascadeType.ALL)
-    @OrderBy("date ASC")
-    @Builder.Default
-    private List<TimesheetEntry> timesheetEntries = new java.util.ArrayList<>();
-
-    public void addTimesheetEntry(TimesheetEntry timesheetEntry) {
-        timesheetEntries.add(timesheetEntry);
-        timesheetEntry.setTask(this);
-    }
 }
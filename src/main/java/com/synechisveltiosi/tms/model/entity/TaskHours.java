@@ -0,0 +1,29 @@
+package com.synechisveltiosi.tms.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Running totals of the hours booked against a task. Maintained with deltas on every timesheet write so that
+ * per-task figures never require loading the task's entry history.
+ */
+@Entity
+@Table(name = "task_hours")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskHours implements Serializable {
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "total_hours", nullable = false)
+    private double totalHours;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+}
@@ -1,27 +1,37 @@
 package com.synechisveltiosi.tms.model.entity;
 
 import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "timesheet")
+@NamedEntityGraph(name = Timesheet.HISTORY_GRAPH, attributeNodes = @NamedAttributeNode("employee"))
+@Table(name = "timesheet",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_timesheet_employee_period", columnNames = {"employee_id", "start_date", "end_date"}),
+        indexes = @Index(name = "idx_timesheet_employee_start_id", columnList = "employee_id, start_date, id"))
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Timesheet implements Serializable {
+    public static final String HISTORY_GRAPH = "Timesheet.history";
 
     @Id
-    @UuidGenerator
+    @TimeOrderedUuid
     private UUID id;
 
     @Enumerated(EnumType.STRING)
@@ -32,24 +42,79 @@ public class Timesheet implements Serializable {
     @Column(name = "end_date")
     private LocalDate endDate;
 
-    @OneToMany(mappedBy = "timesheet", cascade = CascadeType.ALL)
-    @OrderBy("date ASC")
+    /**
+     * Bumped on every change of the row, including the set-wise status updates that bypass the entity. The
+     * default lets the native inserts leave it out.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * The entries packed per task and ISO week; read and write them through {@link #getEntries()},
+     * {@link #addEntry} and {@link #replaceEntries}.
+     */
+    @OneToMany(mappedBy = "timesheet", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @OrderBy("weekStart ASC, seq ASC")
+    @Getter(AccessLevel.NONE)
     @Builder.Default
-    private Collection<TimesheetEntry> entries = new ArrayList<>();
+    private List<TimesheetLine> lines = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     private Employee employee;
 
     @OneToMany(mappedBy = "timesheet", cascade = CascadeType.ALL)
+    @Fetch(FetchMode.SUBSELECT)
     @OrderBy("date ASC")
     @Builder.Default
     private Collection<TimesheetApproval> approvals = new ArrayList<>();
 
+    /**
+     * Unpacks the stored lines into one entry per day and task, in date order.
+     */
+    public List<TimesheetEntry> getEntries() {
+        List<TimesheetEntry> entries = new ArrayList<>();
+        lines.forEach(line -> entries.addAll(line.entries()));
+        entries.sort(Comparator.comparing(TimesheetEntry::getDate));
+        return entries;
+    }
+
+    /**
+     * Packs the entry into the first line of its task and week with its day free, adding a line if there is none.
+     */
     public void addEntry(TimesheetEntry entry) {
-        if (entry == null) entries = new ArrayList<>();
-        entries.add(entry);
         entry.setTimesheet(this);
+        lineFor(entry.getTask(), entry.getDate()).put(entry);
+    }
+
+    /**
+     * Replaces every entry of the timesheet. Existing lines are refilled before new ones are added, so lines whose
+     * task and week are still in use keep their ids and only the lines left empty are deleted.
+     */
+    public void replaceEntries(Collection<TimesheetEntry> replacement) {
+        lines.forEach(TimesheetLine::clear);
+        replacement.forEach(this::addEntry);
+        lines.removeIf(TimesheetLine::isEmpty);
+    }
+
+    private TimesheetLine lineFor(Task task, LocalDate date) {
+        LocalDate weekStart = TimesheetLine.weekStart(date);
+        int day = TimesheetLine.dayOf(date);
+        int seq = 0;
+        for (TimesheetLine line : lines) {
+            if (line.holds(task, weekStart)) {
+                if (line.isFree(day)) {
+                    return line;
+                }
+                seq = Math.max(seq, line.getSeq() + 1);
+            }
+        }
+        TimesheetLine line = TimesheetLine.create(this, task, weekStart, (short) seq);
+        lines.add(line);
+        return line;
     }
 
     public void addApproval(TimesheetApproval approval) {
@@ -17,7 +17,8 @@ import java.time.LocalDate;
 public class TimesheetApproval implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timesheet_approval_seq")
+    @SequenceGenerator(name = "timesheet_approval_seq", sequenceName = "timesheet_approval_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "approval_date")
@@ -28,11 +29,11 @@ public class TimesheetApproval implements Serializable {
 
     private String comments;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "approver_id", nullable = false)
     private Employee approver;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "timesheet_id", nullable = false)
     private Timesheet timesheet;
 
@@ -1,44 +1,38 @@
 package com.synechisveltiosi.tms.model.entity;
 
 import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
-import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.UUID;
 
-@Entity
-@Table(name = "timesheet_entry")
+/**
+ * One day of a timesheet for one task. Entries are not stored row by row: {@link Timesheet#addEntry} packs them
+ * into {@link TimesheetLine}s, and {@link Timesheet#getEntries()} unpacks them. Changing an entry after it was
+ * added does not change the stored line. Entries compare by value, since each read unpacks new instances.
+ */
 @Getter
 @Setter
+@EqualsAndHashCode
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class TimesheetEntry implements Serializable {
 
-    @Id
-    @UuidGenerator
+    /**
+     * Derived from the line holding the entry and its day, see {@link TimesheetLine#entryId}.
+     */
     private UUID id;
 
     private LocalDate date;
-    @Enumerated(EnumType.STRING)
     private TimesheetEntryType entryType;
     private double hours;
 
-    @ManyToOne
-    @JoinColumn(name = "task_id")
     private Task task;
 
     private boolean disable;
 
-    @ManyToOne
-    @JoinColumn(name = "timesheet_id", nullable = false)
+    @EqualsAndHashCode.Exclude
     private Timesheet timesheet;
-
-    public void setTask(Task task) {
-        this.task = task;
-        task.getTimesheetEntries().add(this);
-    }
 }
@@ -0,0 +1,49 @@
+package com.synechisveltiosi.tms.model.entity;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One day of a {@link TimesheetLine}, read from the {@code timesheet_entry_day} view ({@code db/timesheet-line.sql})
+ * so queries can filter and aggregate entries day by day. Queries on a date range should also bound
+ * {@link #weekStart}, which is the only column of the view the line indexes can serve.
+ */
+@Entity
+@Immutable
+@Subselect("SELECT * FROM timesheet_entry_day")
+@Synchronize("timesheet_line")
+@Getter
+@NoArgsConstructor
+public class TimesheetEntryDay implements Serializable {
+    @Id
+    private UUID id;
+
+    @Column(name = "week_start")
+    private LocalDate weekStart;
+
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type")
+    private TimesheetEntryType entryType;
+
+    private double hours;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    private boolean disable;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "timesheet_id")
+    private Timesheet timesheet;
+}
@@ -0,0 +1,169 @@
+package com.synechisveltiosi.tms.model.entity;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.id.TimeOrderedUuidGenerator;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The entries of a timesheet for one task and one ISO week, packed into a single row: the hours of the seven days
+ * in an array, the days holding an entry and the disabled days as bitmasks (bit 0 is Monday), and the entry type of
+ * each day as a one-character {@link TimesheetEntryType#code()}, or {@code '-'} for none. A timesheet holds more
+ * than one line for the same task and week only when it has several entries for the same task and day;
+ * {@code seq} tells them apart. The natural key is a {@code NULLS NOT DISTINCT} unique index created by {@code db/timesheet-line.sql}, which also
+ * defines the {@code timesheet_entry_day} view that unpacks lines into one row per day.
+ */
+@Entity
+@Table(name = "timesheet_line", indexes = @Index(name = "idx_timesheet_line_week", columnList = "week_start"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TimesheetLine implements Serializable {
+    public static final int DAYS = 7;
+    private static final long DAY_BITS = 0xFL;
+    private static final char NO_TYPE = '-';
+    private static final String NO_TYPES = String.valueOf(NO_TYPE).repeat(DAYS);
+
+    /**
+     * Time-ordered, assigned on creation with its last hex digit cleared, so that entry ids can be derived from it.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * {@code null} until the line is first written, which lets Hibernate tell new lines apart from stored ones
+     * without a lookup, since their ids are assigned up front.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "timesheet_id", nullable = false)
+    private Timesheet timesheet;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id")
+    private Task task;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(nullable = false)
+    private short seq;
+
+    @Column(name = "entry_days", nullable = false)
+    private short entryDays;
+
+    @Column(name = "disabled_days", nullable = false)
+    private short disabledDays;
+
+    @Column(name = "entry_types", nullable = false, length = DAYS)
+    private String entryTypes = NO_TYPES;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
+    private double[] hours = new double[DAYS];
+
+    static TimesheetLine create(Timesheet timesheet, Task task, LocalDate weekStart, short seq) {
+        TimesheetLine line = new TimesheetLine();
+        UUID timeOrdered = TimeOrderedUuidGenerator.next();
+        line.id = new UUID(timeOrdered.getMostSignificantBits(), timeOrdered.getLeastSignificantBits() & ~DAY_BITS);
+        line.timesheet = timesheet;
+        line.task = task;
+        line.weekStart = weekStart;
+        line.seq = seq;
+        return line;
+    }
+
+    public static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Id of the entry held on the day (0 for Monday) of the line; the {@code timesheet_entry_day} view derives the
+     * same id.
+     */
+    public static UUID entryId(UUID lineId, int day) {
+        return new UUID(lineId.getMostSignificantBits(), (lineId.getLeastSignificantBits() & ~DAY_BITS) | day);
+    }
+
+    static int dayOf(LocalDate date) {
+        return date.getDayOfWeek().getValue() - 1;
+    }
+
+    boolean holds(Task otherTask, LocalDate otherWeekStart) {
+        return weekStart.equals(otherWeekStart) && Objects.equals(taskId(task), taskId(otherTask));
+    }
+
+    boolean isFree(int day) {
+        return (entryDays & (1 << day)) == 0;
+    }
+
+    boolean isEmpty() {
+        return entryDays == 0;
+    }
+
+    /**
+     * Stores the entry on the day of its date, which must fall in the line's week and be free, and gives the
+     * entry its derived id.
+     */
+    void put(TimesheetEntry entry) {
+        int day = dayOf(entry.getDate());
+        double[] updatedHours = Arrays.copyOf(hours, DAYS);
+        updatedHours[day] = entry.getHours();
+        char[] types = entryTypes.toCharArray();
+        types[day] = entry.getEntryType() == null ? NO_TYPE : entry.getEntryType().code();
+        hours = updatedHours;
+        entryTypes = new String(types);
+        entryDays |= (short) (1 << day);
+        disabledDays = (short) (entry.isDisable() ? disabledDays | (1 << day) : disabledDays & ~(1 << day));
+        entry.setId(entryId(id, day));
+    }
+
+    void clear() {
+        hours = new double[DAYS];
+        entryTypes = NO_TYPES;
+        entryDays = 0;
+        disabledDays = 0;
+    }
+
+    List<TimesheetEntry> entries() {
+        List<TimesheetEntry> entries = new ArrayList<>(Integer.bitCount(entryDays));
+        for (int day = 0; day < DAYS; day++) {
+            if (!isFree(day)) {
+                entries.add(TimesheetEntry.builder()
+                        .id(entryId(id, day))
+                        .date(weekStart.plusDays(day))
+                        .entryType(typeOf(entryTypes.charAt(day)))
+                        .hours(hours[day])
+                        .task(task)
+                        .disable((disabledDays & (1 << day)) != 0)
+                        .timesheet(timesheet)
+                        .build());
+            }
+        }
+        return entries;
+    }
+
+    private static TimesheetEntryType typeOf(char code) {
+        return code == NO_TYPE ? null : TimesheetEntryType.fromCode(code);
+    }
+
+    private static Long taskId(Task task) {
+        return task == null ? null : task.getId();
+    }
+}
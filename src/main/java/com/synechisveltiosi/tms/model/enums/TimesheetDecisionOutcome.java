@@ -0,0 +1,5 @@
+package com.synechisveltiosi.tms.model.enums;
+
+public enum TimesheetDecisionOutcome {
+    UPDATED, NOT_FOUND, NOT_AWAITING_DECISION
+}
@@ -1,5 +1,28 @@
 package com.synechisveltiosi.tms.model.enums;
 
+/**
+ * The code is the one-character form a day's type takes in packed timesheet lines; {@code db/timesheet-line.sql}
+ * decodes it with the same table.
+ */
 public enum TimesheetEntryType {
-    NONE, BILLABLE, NON_BILLABLE, OVERTIME, HOLIDAY
+    NONE('N'), BILLABLE('B'), NON_BILLABLE('U'), OVERTIME('O'), HOLIDAY('H'), LEAVE('L');
+
+    private final char code;
+
+    TimesheetEntryType(char code) {
+        this.code = code;
+    }
+
+    public char code() {
+        return code;
+    }
+
+    public static TimesheetEntryType fromCode(char code) {
+        for (TimesheetEntryType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown entry type code: " + code);
+    }
 }
@@ -0,0 +1,5 @@
+package com.synechisveltiosi.tms.model.enums;
+
+public enum TimesheetGenerationStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,6 @@
+package com.synechisveltiosi.tms.model.enums;
+
+public enum TimesheetImportRejection {
+    INVALID_EMPLOYEE_ID, INVALID_TASK_ID, INVALID_DATE, INVALID_ENTRY_TYPE, INVALID_HOURS, DATE_OUT_OF_RANGE,
+    UNKNOWN_EMPLOYEE, UNKNOWN_TASK, NO_TIMESHEET, TIMESHEET_LOCKED
+}
@@ -0,0 +1,40 @@
+package com.synechisveltiosi.tms.model.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * Version 7 UUIDs (RFC 9562): the Unix time in milliseconds in the 48 high bits, then the version and variant, and
+ * 74 random bits taken from {@link UUID#randomUUID()}. Ids therefore sort by creation time to the millisecond while
+ * staying as hard to guess as random ones, and are stored in the same {@code uuid} columns, so ids generated
+ * before are still valid. {@code db/identifiers.sql} defines {@code uuid_time_ordered()}, the same layout for ids
+ * generated in SQL.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+    private static final long VERSION_7 = 0x7000L;
+    private static final long RANDOM_A = 0x0FFFL;
+
+    public static UUID next() {
+        UUID random = UUID.randomUUID();
+        long mostSignificantBits = System.currentTimeMillis() << 16 | VERSION_7
+                | random.getMostSignificantBits() & RANDOM_A;
+        return new UUID(mostSignificantBits, random.getLeastSignificantBits());
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+}
@@ -0,0 +1,14 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import java.util.UUID;
+
+/**
+ * Slim projection of {@link com.synechisveltiosi.tms.model.entity.Employee} carrying only the keys
+ * needed to generate a timesheet without hydrating the employee graph: the ids and the holiday region.
+ */
+public record EmployeeKey(UUID id, UUID managerId, String country, String state) {
+
+    public EmployeeKey(UUID id, UUID managerId) {
+        this(id, managerId, null, null);
+    }
+}
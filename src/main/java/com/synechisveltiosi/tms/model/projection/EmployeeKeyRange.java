@@ -0,0 +1,46 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Half-open range {@code (after, upTo]} over {@link com.synechisveltiosi.tms.model.entity.Employee} ids,
+ * walked with keyset pagination by moving {@code after} to the last id read.
+ */
+public record EmployeeKeyRange(UUID after, UUID upTo) {
+    public static final UUID MIN_ID = new UUID(0L, 0L);
+    public static final UUID MAX_ID = new UUID(-1L, -1L);
+    public static final EmployeeKeyRange ALL = new EmployeeKeyRange(MIN_ID, MAX_ID);
+    private static final BigInteger KEY_SPACE = BigInteger.ONE.shiftLeft(Long.SIZE);
+
+    public EmployeeKeyRange resumeAfter(UUID lastId) {
+        return new EmployeeKeyRange(lastId, upTo);
+    }
+
+    /**
+     * Splits the whole id space into {@code partitions} contiguous ranges of equal width on the most
+     * significant 64 bits. Ids are random UUIDs, so every range holds roughly the same number of employees
+     * while still being served by an index range scan on the primary key.
+     */
+    public static List<EmployeeKeyRange> split(int partitions) {
+        if (partitions <= 1) {
+            return List.of(ALL);
+        }
+        List<EmployeeKeyRange> ranges = new ArrayList<>(partitions);
+        UUID after = MIN_ID;
+        for (int i = 1; i <= partitions; i++) {
+            UUID upTo = i == partitions ? MAX_ID : new UUID(lowerBound(i, partitions) - 1, -1L);
+            ranges.add(new EmployeeKeyRange(after, upTo));
+            after = upTo;
+        }
+        return ranges;
+    }
+
+    private static long lowerBound(int partition, int partitions) {
+        return KEY_SPACE.multiply(BigInteger.valueOf(partition))
+                .divide(BigInteger.valueOf(partitions))
+                .longValue();
+    }
+}
@@ -0,0 +1,12 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Hours of one employee on one day for one entry type, summed over the timesheets read.
+ */
+public record EntryHours(UUID employeeId, LocalDate date, TimesheetEntryType entryType, double hours) {
+}
@@ -0,0 +1,13 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import com.synechisveltiosi.tms.model.enums.LeaveType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Slim projection of an approved {@link com.synechisveltiosi.tms.model.entity.Leave}: the employee, the
+ * inclusive date range and the hours booked per leave day.
+ */
+public record LeaveInterval(UUID employeeId, LocalDate startDate, LocalDate endDate, LeaveType type, double hours) {
+}
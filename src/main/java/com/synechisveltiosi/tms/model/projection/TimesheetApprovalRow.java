@@ -0,0 +1,13 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Flat tuple of a {@link com.synechisveltiosi.tms.model.entity.TimesheetApproval} keyed by its timesheet.
+ */
+public record TimesheetApprovalRow(UUID timesheetId, Long id, UUID approverId, LocalDate date,
+                                   TimesheetStatus status, String comments) {
+}
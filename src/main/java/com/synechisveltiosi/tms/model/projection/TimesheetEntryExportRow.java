@@ -0,0 +1,14 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One exported {@link com.synechisveltiosi.tms.model.entity.TimesheetEntry} with the timesheet fields payroll needs.
+ */
+public record TimesheetEntryExportRow(UUID employeeId, UUID timesheetId, TimesheetStatus status, UUID entryId,
+                                      Long taskId, LocalDate date, TimesheetEntryType entryType, double hours) {
+}
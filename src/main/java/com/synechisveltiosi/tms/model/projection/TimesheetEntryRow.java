@@ -0,0 +1,13 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Flat tuple of a {@link com.synechisveltiosi.tms.model.entity.TimesheetEntry} keyed by its timesheet.
+ */
+public record TimesheetEntryRow(UUID timesheetId, UUID id, Long taskId, TimesheetEntryType entryType,
+                                LocalDate date, double hours, boolean disable) {
+}
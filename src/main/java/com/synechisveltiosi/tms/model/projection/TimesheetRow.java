@@ -0,0 +1,16 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Flat tuple of a {@link com.synechisveltiosi.tms.model.entity.Timesheet} header joined with its employee.
+ */
+public record TimesheetRow(UUID id, TimesheetStatus status, LocalDate startDate, LocalDate endDate,
+                           UUID employeeId, String firstName, String lastName,
+                           String contactNumber, String emailAddress,
+                           String addressLine1, String addressLine2, String city, String state,
+                           String zipCode, String country) {
+}
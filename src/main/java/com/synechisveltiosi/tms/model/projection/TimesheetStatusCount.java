@@ -0,0 +1,6 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+
+public record TimesheetStatusCount(TimesheetStatus status, long count) {
+}
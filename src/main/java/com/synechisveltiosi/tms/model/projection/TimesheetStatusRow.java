@@ -0,0 +1,8 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+
+import java.util.UUID;
+
+public record TimesheetStatusRow(UUID id, TimesheetStatus status) {
+}
@@ -0,0 +1,13 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Header-only view of a timesheet with the owner's name, for listings that never need entries or approvals.
+ */
+public record TimesheetSummary(UUID id, TimesheetStatus status, LocalDate startDate, LocalDate endDate,
+                               UUID employeeId, String firstName, String lastName) {
+}
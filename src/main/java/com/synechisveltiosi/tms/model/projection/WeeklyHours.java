@@ -0,0 +1,12 @@
+package com.synechisveltiosi.tms.model.projection;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+
+import java.time.LocalDate;
+
+/**
+ * Hours of one ISO week and entry type; {@code totalHours} covers every reported timesheet, {@code approvedHours}
+ * only the approved ones.
+ */
+public record WeeklyHours(LocalDate weekStart, TimesheetEntryType entryType, double totalHours, double approvedHours) {
+}
@@ -0,0 +1,61 @@
+package com.synechisveltiosi.tms.quartz;
+
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationDto;
+import com.synechisveltiosi.tms.service.TimesheetService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.*;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Generates one partition of a weekly run. Scheduled by {@link WeeklyTimesheetJob} in clustered mode so that
+ * whichever node has a free worker claims it from the shared job store.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimesheetPartitionJob implements Job {
+    public static final String GROUP = "timesheet-generation";
+    private static final String START_DATE = "startDate";
+    private static final String END_DATE = "endDate";
+    private static final String PARTITION = "partition";
+    private static final String PARTITIONS = "partitions";
+
+    private final TimesheetService timesheetService;
+
+    public static JobKey jobKey(LocalDate startDate, LocalDate endDate, int partition) {
+        return JobKey.jobKey("timesheetPartition-" + startDate + "-" + endDate + "-" + partition, GROUP);
+    }
+
+    public static JobDetail jobDetail(LocalDate startDate, LocalDate endDate, int partition, int partitions) {
+        return JobBuilder.newJob(TimesheetPartitionJob.class)
+                .withIdentity(jobKey(startDate, endDate, partition))
+                .usingJobData(START_DATE, startDate.toString())
+                .usingJobData(END_DATE, endDate.toString())
+                .usingJobData(PARTITION, String.valueOf(partition))
+                .usingJobData(PARTITIONS, String.valueOf(partitions))
+                .requestRecovery()
+                .build();
+    }
+
+    public static Trigger trigger(JobDetail jobDetail) {
+        return TriggerBuilder.newTrigger()
+                .forJob(jobDetail)
+                .withIdentity(jobDetail.getKey().getName(), GROUP)
+                .startNow()
+                .build();
+    }
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        JobDataMap data = jobExecutionContext.getMergedJobDataMap();
+        TimesheetGenerationDto result = timesheetService.generateTimesheetPartition(
+                LocalDate.parse(data.getString(START_DATE)),
+                LocalDate.parse(data.getString(END_DATE)),
+                Integer.parseInt(data.getString(PARTITION)),
+                Integer.parseInt(data.getString(PARTITIONS)));
+        if (result.failed()) {
+            throw new JobExecutionException("Timesheet partition generation failed: " + result.failures());
+        }
+    }
+}
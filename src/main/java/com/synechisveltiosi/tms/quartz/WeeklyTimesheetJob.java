@@ -1,22 +1,51 @@
 package com.synechisveltiosi.tms.quartz;
 
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationDto;
+import com.synechisveltiosi.tms.config.TimesheetGenerationProperties;
 import com.synechisveltiosi.tms.service.TimesheetService;
 import lombok.RequiredArgsConstructor;
-import org.quartz.Job;
-import org.quartz.JobExecutionContext;
-import org.quartz.JobExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.*;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
+@DisallowConcurrentExecution
 public class WeeklyTimesheetJob implements Job {
 
     private final TimesheetService timesheetService;
+    private final TimesheetGenerationProperties generationProperties;
 
     @Override
     public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
-        timesheetService.generateTimesheets(LocalDate.now().minusDays(7), LocalDate.now());
+        LocalDate startDate = LocalDate.now().minusDays(7);
+        LocalDate endDate = LocalDate.now();
+        if (generationProperties.clustered()) {
+            fanOut(jobExecutionContext.getScheduler(), startDate, endDate);
+            return;
+        }
+        TimesheetGenerationDto result = timesheetService.generateTimesheets(startDate, endDate);
+        if (result.failed()) {
+            throw new JobExecutionException("Weekly timesheet generation failed: " + result.failures());
+        }
+    }
+
+    private void fanOut(Scheduler scheduler, LocalDate startDate, LocalDate endDate) throws JobExecutionException {
+        int partitions = generationProperties.partitions();
+        try {
+            for (int partition = 0; partition < partitions; partition++) {
+                if (scheduler.checkExists(TimesheetPartitionJob.jobKey(startDate, endDate, partition))) {
+                    continue;
+                }
+                JobDetail jobDetail = TimesheetPartitionJob.jobDetail(startDate, endDate, partition, partitions);
+                scheduler.scheduleJob(jobDetail, TimesheetPartitionJob.trigger(jobDetail));
+            }
+            log.info("Scheduled {} timesheet partitions for {} - {}", partitions, startDate, endDate);
+        } catch (SchedulerException ex) {
+            throw new JobExecutionException("Failed to schedule timesheet partitions", ex);
+        }
     }
 }
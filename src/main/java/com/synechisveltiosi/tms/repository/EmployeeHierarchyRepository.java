@@ -0,0 +1,27 @@
+package com.synechisveltiosi.tms.repository;
+
+import com.synechisveltiosi.tms.model.entity.EmployeeHierarchy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmployeeHierarchyRepository extends JpaRepository<EmployeeHierarchy, EmployeeHierarchy.Key> {
+
+    @Query("SELECT COUNT(h) > 0 FROM EmployeeHierarchy h " +
+            "WHERE h.ancestorId = :ancestorId AND h.descendantId = :descendantId AND h.depth > 0")
+    boolean isAbove(UUID ancestorId, UUID descendantId);
+
+    @Query("SELECT h.descendantId FROM EmployeeHierarchy h " +
+            "WHERE h.ancestorId = :ancestorId AND h.depth BETWEEN 1 AND :maxDepth ORDER BY h.depth, h.descendantId")
+    List<UUID> findDescendantIds(UUID ancestorId, int maxDepth);
+
+    @Query("SELECT COUNT(h) FROM EmployeeHierarchy h WHERE h.ancestorId = :ancestorId AND h.depth BETWEEN 1 AND :maxDepth")
+    long countDescendants(UUID ancestorId, int maxDepth);
+
+    @Query("SELECT h.ancestorId FROM EmployeeHierarchy h WHERE h.descendantId = :descendantId AND h.depth > 0 ORDER BY h.depth")
+    List<UUID> findAncestorIds(UUID descendantId);
+}
@@ -1,11 +1,19 @@
 package com.synechisveltiosi.tms.repository;
 
 import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.projection.EmployeeKey;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
-}
\ No newline at end of file
+    @Query("SELECT new com.synechisveltiosi.tms.model.projection.EmployeeKey(e.id, m.id, " +
+            "e.personDetails.address.country, e.personDetails.address.state) FROM Employee e " +
+            "LEFT JOIN e.manager m WHERE e.id > :after AND e.id <= :upTo ORDER BY e.id")
+    List<EmployeeKey> findEmployeeKeys(UUID after, UUID upTo, Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package com.synechisveltiosi.tms.repository;
+
+import com.synechisveltiosi.tms.model.entity.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+}
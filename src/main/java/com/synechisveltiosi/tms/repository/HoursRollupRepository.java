@@ -0,0 +1,48 @@
+package com.synechisveltiosi.tms.repository;
+
+import com.synechisveltiosi.tms.model.entity.HoursRollup;
+import com.synechisveltiosi.tms.model.projection.WeeklyHours;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface HoursRollupRepository extends JpaRepository<HoursRollup, Long> {
+
+    /**
+     * Adds the entries of every timesheet of the set to the rollup, weighted by {@code reported} for the total hours
+     * and entry count and by {@code approved} for the approved hours (1 to add, -1 to retract, 0 to leave as is).
+     * Groups are upserted in key order so concurrent writers touching the same rows cannot deadlock. Pending
+     * entries are flushed first, since the statement reads them from the {@code timesheet_entry_day} view.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "hours_rollup"))
+    @Query(value = "INSERT INTO hours_rollup (project_id, task_id, employee_id, week_start, entry_type, " +
+            "total_hours, approved_hours, entry_count) " +
+            "SELECT tk.project_id, te.task_id, t.employee_id, te.week_start, te.entry_type, " +
+            ":reported * SUM(te.hours), :approved * SUM(te.hours), :reported * COUNT(*) " +
+            "FROM timesheet_entry_day te JOIN timesheet t ON t.id = te.timesheet_id LEFT JOIN task tk ON tk.id = te.task_id " +
+            "WHERE te.timesheet_id IN (:timesheetIds) " +
+            "GROUP BY tk.project_id, te.task_id, t.employee_id, te.week_start, te.entry_type " +
+            "ORDER BY 1, 2, 3, 4, 5 " +
+            "ON CONFLICT (project_id, task_id, employee_id, week_start, entry_type) DO UPDATE SET " +
+            "total_hours = hours_rollup.total_hours + EXCLUDED.total_hours, " +
+            "approved_hours = hours_rollup.approved_hours + EXCLUDED.approved_hours, " +
+            "entry_count = hours_rollup.entry_count + EXCLUDED.entry_count", nativeQuery = true)
+    int addTimesheets(Collection<UUID> timesheetIds, int reported, int approved);
+
+    @Query("SELECT new com.synechisveltiosi.tms.model.projection.WeeklyHours(" +
+            "r.weekStart, r.entryType, SUM(r.totalHours), SUM(r.approvedHours)) " +
+            "FROM HoursRollup r WHERE r.projectId = :projectId AND r.weekStart BETWEEN :from AND :to " +
+            "GROUP BY r.weekStart, r.entryType ORDER BY r.weekStart, r.entryType")
+    List<WeeklyHours> findWeeklyHoursByProjectId(UUID projectId, LocalDate from, LocalDate to);
+}
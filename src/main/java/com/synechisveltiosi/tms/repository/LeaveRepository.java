@@ -0,0 +1,22 @@
+package com.synechisveltiosi.tms.repository;
+
+import com.synechisveltiosi.tms.model.entity.Leave;
+import com.synechisveltiosi.tms.model.enums.LeaveStatus;
+import com.synechisveltiosi.tms.model.projection.LeaveInterval;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface LeaveRepository extends JpaRepository<Leave, UUID> {
+    @Query("SELECT new com.synechisveltiosi.tms.model.projection.LeaveInterval(l.employee.id, l.startDate, l.endDate, " +
+            "l.type, l.hours) FROM Leave l WHERE l.employee.id IN :employeeIds AND l.status = :status " +
+            "AND l.startDate <= :endDate AND l.endDate >= :startDate")
+    List<LeaveInterval> findLeaveIntervals(Collection<UUID> employeeIds, LeaveStatus status, LocalDate startDate,
+                                           LocalDate endDate);
+}
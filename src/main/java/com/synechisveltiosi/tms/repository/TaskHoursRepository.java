@@ -0,0 +1,18 @@
+package com.synechisveltiosi.tms.repository;
+
+import com.synechisveltiosi.tms.model.entity.TaskHours;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskHoursRepository extends JpaRepository<TaskHours, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO task_hours (task_id, total_hours, entry_count) VALUES (:taskId, :hours, :entries) " +
+            "ON CONFLICT (task_id) DO UPDATE SET total_hours = task_hours.total_hours + EXCLUDED.total_hours, " +
+            "entry_count = task_hours.entry_count + EXCLUDED.entry_count", nativeQuery = true)
+    void addHours(@Param("taskId") Long taskId, @Param("hours") double hours, @Param("entries") long entries);
+}
@@ -0,0 +1,30 @@
+package com.synechisveltiosi.tms.repository;
+
+import com.synechisveltiosi.tms.model.entity.TimesheetApproval;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface TimesheetApprovalRepository extends JpaRepository<TimesheetApproval, Long> {
+
+    /**
+     * Records the same decision on every timesheet of the set with a single INSERT ... SELECT. The native query
+     * space is declared so the insert does not evict unrelated second-level cache regions. Ids are drawn from the
+     * pooled sequence one value per row; values drawn outside Hibernate start a block it never hands out.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "timesheet_approval"))
+    @Query(value = "INSERT INTO timesheet_approval (id, approval_date, status, comments, approver_id, timesheet_id) " +
+            "SELECT nextval('timesheet_approval_seq'), CURRENT_DATE, :status, :comments, :approverId, t.id " +
+            "FROM timesheet t WHERE t.id IN (:timesheetIds)",
+            nativeQuery = true)
+    int insertApprovals(Collection<UUID> timesheetIds, UUID approverId, String status, String comments);
+}
@@ -0,0 +1,207 @@
+package com.synechisveltiosi.tms.repository;
+
+import com.synechisveltiosi.tms.api.response.TimesheetImportDto;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetImportRejection;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Set-wise statements of the CSV import. The file is streamed with COPY into a temporary staging table, which
+ * like an unlogged table is never written to the WAL, and is private to the importing transaction and dropped at
+ * commit. Rows are then typed and validated in one pass, and merged into {@code timesheet} and
+ * {@code timesheet_line} with a fixed number of statements whatever the size of the file.
+ * <p>
+ * This is JDBC rather than Spring Data because COPY needs the driver's connection; every method must run inside
+ * the importing transaction so they all share the staging tables.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimesheetImportRepository {
+    private static final String CREATE_STAGING = "CREATE TEMPORARY TABLE timesheet_import_raw (" +
+            "line bigint GENERATED ALWAYS AS IDENTITY (START WITH 2), employee_id text, task_id text, date text, " +
+            "entry_type text, hours text) ON COMMIT DROP";
+    private static final String COPY_STAGING = "COPY timesheet_import_raw (employee_id, task_id, date, entry_type, hours) " +
+            "FROM STDIN WITH (FORMAT csv, HEADER MATCH)";
+    private static final String VALIDATE = "CREATE TEMPORARY TABLE timesheet_import_row ON COMMIT DROP AS " +
+            "SELECT s.line, s.employee_id, s.task_id, s.entry_date, s.entry_type, s.hours, CASE " +
+            "WHEN s.employee_id IS NULL THEN 'INVALID_EMPLOYEE_ID' " +
+            "WHEN s.task_id IS NULL THEN 'INVALID_TASK_ID' " +
+            "WHEN s.entry_date IS NULL THEN 'INVALID_DATE' " +
+            "WHEN s.entry_type IS NULL THEN 'INVALID_ENTRY_TYPE' " +
+            "WHEN s.hours IS NULL OR s.hours < 0 OR s.hours > 24 THEN 'INVALID_HOURS' " +
+            "WHEN s.entry_date < DATE '%1$s' OR s.entry_date > DATE '%2$s' THEN 'DATE_OUT_OF_RANGE' " +
+            "WHEN e.id IS NULL THEN 'UNKNOWN_EMPLOYEE' " +
+            "WHEN tk.id IS NULL THEN 'UNKNOWN_TASK' END AS reason " +
+            "FROM (SELECT r.line, " +
+            "CASE WHEN pg_input_is_valid(r.employee_id, 'uuid') THEN CAST(r.employee_id AS uuid) END AS employee_id, " +
+            "CASE WHEN pg_input_is_valid(r.task_id, 'bigint') THEN CAST(r.task_id AS bigint) END AS task_id, " +
+            "CASE WHEN pg_input_is_valid(r.date, 'date') THEN CAST(r.date AS date) END AS entry_date, " +
+            "CASE WHEN upper(trim(r.entry_type)) IN (%3$s) THEN upper(trim(r.entry_type)) END AS entry_type, " +
+            "CASE WHEN pg_input_is_valid(r.hours, 'numeric') THEN CAST(r.hours AS double precision) END AS hours " +
+            "FROM timesheet_import_raw r) s " +
+            "LEFT JOIN employee e ON e.id = s.employee_id LEFT JOIN task tk ON tk.id = s.task_id";
+    private static final String CREATE_MISSING_TIMESHEETS = "INSERT INTO timesheet (id, status, start_date, end_date, employee_id) " +
+            "SELECT uuid_time_ordered(), 'CREATED', w.week_start, w.week_start + 6, w.employee_id " +
+            "FROM (SELECT DISTINCT r.employee_id, CAST(date_trunc('week', r.entry_date) AS date) AS week_start " +
+            "FROM timesheet_import_row r WHERE r.reason IS NULL) w WHERE NOT EXISTS (SELECT 1 FROM timesheet t " +
+            "WHERE t.employee_id = w.employee_id AND t.start_date <= w.week_start + 6 AND t.end_date >= w.week_start) " +
+            "ORDER BY w.employee_id, w.week_start ON CONFLICT DO NOTHING";
+    private static final String RESOLVE_TIMESHEETS = "CREATE TEMPORARY TABLE timesheet_import_target ON COMMIT DROP AS " +
+            "SELECT r.line, r.employee_id, r.task_id, r.entry_date, r.entry_type, r.hours, t.id AS timesheet_id, " +
+            "t.status FROM timesheet_import_row r LEFT JOIN LATERAL (SELECT t.id, t.status FROM timesheet t " +
+            "WHERE t.employee_id = r.employee_id AND t.start_date <= r.entry_date AND t.end_date >= r.entry_date " +
+            "ORDER BY t.start_date DESC LIMIT 1) t ON true WHERE r.reason IS NULL";
+    private static final String STAGE_CELLS = "CREATE TEMPORARY TABLE timesheet_import_cell ON COMMIT DROP AS " +
+            "SELECT timesheet_id, task_id, CAST(date_trunc('week', entry_date) AS date) AS week_start, " +
+            "CAST(extract(isodow FROM entry_date) AS int) - 1 AS day, " +
+            "row_number() OVER (PARTITION BY timesheet_id, task_id, entry_date ORDER BY line) - 1 AS seq, " +
+            "timesheet_entry_type_code(entry_type) AS code, hours " +
+            "FROM timesheet_import_target WHERE status IN (%s)";
+    private static final String ADJUST_TASK_HOURS = "INSERT INTO task_hours (task_id, total_hours, entry_count) " +
+            "SELECT d.task_id, SUM(d.hours), SUM(d.entries) FROM (" +
+            "SELECT te.task_id, -te.hours AS hours, -1 AS entries FROM timesheet_entry_day te " +
+            "JOIN (SELECT DISTINCT timesheet_id, task_id, week_start + day AS date FROM timesheet_import_cell) k " +
+            "ON te.timesheet_id = k.timesheet_id AND te.task_id = k.task_id AND te.date = k.date " +
+            "UNION ALL SELECT task_id, hours, 1 FROM timesheet_import_cell) d GROUP BY d.task_id ORDER BY d.task_id " +
+            "ON CONFLICT (task_id) DO UPDATE SET total_hours = task_hours.total_hours + EXCLUDED.total_hours, " +
+            "entry_count = task_hours.entry_count + EXCLUDED.entry_count";
+    private static final String CLEAR_DAYS = "UPDATE timesheet_line l SET entry_days = l.entry_days & ~k.days, " +
+            "disabled_days = l.disabled_days & ~k.days, " +
+            "entry_types = timesheet_line_merge_types(l.entry_types, '-------', k.days), " +
+            "hours = timesheet_line_merge_hours(l.hours, '{0,0,0,0,0,0,0}', k.days), version = l.version + 1 " +
+            "FROM (SELECT timesheet_id, task_id, week_start, bit_or(1 << day) AS days FROM timesheet_import_cell " +
+            "GROUP BY timesheet_id, task_id, week_start) k " +
+            "WHERE l.timesheet_id = k.timesheet_id AND l.task_id = k.task_id AND l.week_start = k.week_start " +
+            "AND l.entry_days & k.days <> 0";
+    private static final String UPSERT_LINES = "INSERT INTO timesheet_line (id, version, timesheet_id, task_id, week_start, " +
+            "seq, entry_days, disabled_days, entry_types, hours) " +
+            "SELECT CAST(overlay(CAST(uuid_time_ordered() AS text) PLACING '0' FROM 36 FOR 1) AS uuid), 0, " +
+            "c.timesheet_id, c.task_id, c.week_start, c.seq, CAST(bit_or(1 << c.day) AS smallint), 0, " +
+            "timesheet_line_types(array_agg(c.day), array_agg(c.code)), " +
+            "timesheet_line_hours(array_agg(c.day), array_agg(c.hours)) FROM timesheet_import_cell c " +
+            "GROUP BY c.timesheet_id, c.task_id, c.week_start, c.seq " +
+            "ORDER BY c.timesheet_id, c.task_id, c.week_start, c.seq " +
+            "ON CONFLICT (timesheet_id, task_id, week_start, seq) DO UPDATE SET " +
+            "entry_days = timesheet_line.entry_days | EXCLUDED.entry_days, " +
+            "disabled_days = timesheet_line.disabled_days & ~EXCLUDED.entry_days, " +
+            "entry_types = timesheet_line_merge_types(timesheet_line.entry_types, EXCLUDED.entry_types, EXCLUDED.entry_days), " +
+            "hours = timesheet_line_merge_hours(timesheet_line.hours, EXCLUDED.hours, EXCLUDED.entry_days), " +
+            "version = timesheet_line.version + 1";
+    private static final String DELETE_EMPTY_LINES = "DELETE FROM timesheet_line WHERE entry_days = 0 AND timesheet_id IN " +
+            "(SELECT timesheet_id FROM timesheet_import_cell)";
+    private static final String UPDATE_STATUSES = "UPDATE timesheet SET status = ?, version = version + 1 WHERE id IN " +
+            "(SELECT timesheet_id FROM timesheet_import_target WHERE status IN (%s)) RETURNING id";
+    private static final String INSERT_PENDING_APPROVALS = "INSERT INTO timesheet_approval " +
+            "(id, approval_date, status, comments, approver_id, timesheet_id) " +
+            "SELECT nextval('timesheet_approval_seq'), CURRENT_DATE, 'PENDING', '', em.manager_id, t.id FROM timesheet t " +
+            "JOIN employee_manager em ON em.employee_id = t.employee_id WHERE t.id IN " +
+            "(SELECT timesheet_id FROM timesheet_import_target WHERE status IN (%s))";
+    private static final String REJECTED = "SELECT line, reason FROM timesheet_import_row WHERE reason IS NOT NULL " +
+            "UNION ALL SELECT line, 'NO_TIMESHEET' FROM timesheet_import_target WHERE timesheet_id IS NULL " +
+            "UNION ALL SELECT line, 'TIMESHEET_LOCKED' FROM timesheet_import_target WHERE status NOT IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void createStagingTable() {
+        jdbcTemplate.execute(CREATE_STAGING);
+    }
+
+    /**
+     * Streams the CSV into the staging table as-is; every column is text, so only malformed CSV fails the copy.
+     *
+     * @return the number of rows copied
+     */
+    public long copyRows(InputStream csv) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING, csv);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to read the imported file", ex);
+            }
+        });
+    }
+
+    /**
+     * Types every staged row and records the first reason it cannot be imported, in one pass with hash joins against
+     * {@code employee} and {@code task}. CREATE TABLE AS takes no bind parameters, so the range is written as ISO
+     * date literals.
+     */
+    public void validateRows(Collection<TimesheetEntryType> entryTypes, LocalDate from, LocalDate to) {
+        jdbcTemplate.update(String.format(VALIDATE, from, to, literals(entryTypes)));
+    }
+
+    /**
+     * Creates a {@code CREATED} timesheet for every ISO week of a valid row that no timesheet of the employee
+     * overlaps. A week an existing timesheet only partly covers gets none, since the new one would overlap it; its
+     * rows outside the existing timesheet are rejected as {@code NO_TIMESHEET}.
+     */
+    public int createMissingTimesheets() {
+        return jdbcTemplate.update(CREATE_MISSING_TIMESHEETS);
+    }
+
+    /**
+     * Pairs each valid row with the timesheet covering its date; the latest starting one if periods overlap, and
+     * none if no timesheet covers it.
+     */
+    public void resolveTimesheets() {
+        jdbcTemplate.update(RESOLVE_TIMESHEETS);
+    }
+
+    /**
+     * Replaces the entries of the same (timesheet, date, task) with the imported rows of timesheets still in one of
+     * the editable statuses. The rows are staged as cells of their lines, {@code task_hours} is adjusted by the
+     * difference while the replaced entries are still readable, the replaced days are cleared from every line of
+     * the task and week, and the cells are then upserted line by line; several rows for the same task and day go to
+     * successive {@code seq}. Lines left without an entry are deleted.
+     *
+     * @return the number of entries inserted
+     */
+    public long mergeEntries(Collection<TimesheetStatus> editable) {
+        jdbcTemplate.update(String.format(STAGE_CELLS, literals(editable)));
+        jdbcTemplate.update(ADJUST_TASK_HOURS);
+        jdbcTemplate.update(CLEAR_DAYS);
+        jdbcTemplate.update(UPSERT_LINES);
+        jdbcTemplate.update(DELETE_EMPTY_LINES);
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM timesheet_import_cell", Long.class);
+    }
+
+    public List<UUID> updateStatuses(Collection<TimesheetStatus> editable, TimesheetStatus status) {
+        return jdbcTemplate.queryForList(String.format(UPDATE_STATUSES, literals(editable)), UUID.class, status.name());
+    }
+
+    public int insertPendingApprovals(Collection<TimesheetStatus> editable) {
+        return jdbcTemplate.update(String.format(INSERT_PENDING_APPROVALS, literals(editable)));
+    }
+
+    public long countRejected(Collection<TimesheetStatus> editable) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM (" + String.format(REJECTED, literals(editable)) + ") r",
+                Long.class);
+    }
+
+    public List<TimesheetImportDto.Rejection> findRejections(Collection<TimesheetStatus> editable, int limit) {
+        return jdbcTemplate.query(String.format(REJECTED, literals(editable)) + " ORDER BY line LIMIT ?",
+                (rs, rowNum) -> new TimesheetImportDto.Rejection(rs.getLong("line"),
+                        TimesheetImportRejection.valueOf(rs.getString("reason"))), limit);
+    }
+
+    /**
+     * Enum constants are written as literals so the lists need no array binding; they never come from input.
+     */
+    private static String literals(Collection<? extends Enum<?>> constants) {
+        return constants.stream().map(constant -> "'" + constant.name() + "'").collect(Collectors.joining(", "));
+    }
+}
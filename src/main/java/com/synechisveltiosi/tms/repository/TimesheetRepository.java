@@ -1,17 +1,189 @@
 package com.synechisveltiosi.tms.repository;
 
 import com.synechisveltiosi.tms.model.entity.Timesheet;
+import com.synechisveltiosi.tms.model.entity.TimesheetLine;
+import com.synechisveltiosi.tms.model.projection.EntryHours;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.TimesheetApprovalRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetEntryExportRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetEntryRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetStatusCount;
+import com.synechisveltiosi.tms.model.projection.TimesheetStatusRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetSummary;
+import com.synechisveltiosi.tms.model.projection.TimesheetVersionRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TimesheetRepository extends JpaRepository<Timesheet, UUID> {
+    String TIMESHEET_ROW = "SELECT new com.synechisveltiosi.tms.model.projection.TimesheetRow(" +
+            "t.id, t.status, t.startDate, t.endDate, e.id, " +
+            "e.personDetails.name.firstName, e.personDetails.name.lastName, " +
+            "e.personDetails.contact.contactNumber, e.personDetails.contact.emailAddress, " +
+            "e.personDetails.address.addressLine1, e.personDetails.address.addressLine2, " +
+            "e.personDetails.address.city, e.personDetails.address.state, " +
+            "e.personDetails.address.zipCode, e.personDetails.address.country) " +
+            "FROM Timesheet t JOIN t.employee e ";
+    /**
+     * Written as literals rather than a parameter so the planner can match the partial index
+     * {@code idx_timesheet_awaiting_decision} (db/timesheet-inbox.sql).
+     */
+    String AWAITING_DECISION = "t.status IN (com.synechisveltiosi.tms.model.enums.TimesheetStatus.SUBMITTED, " +
+            "com.synechisveltiosi.tms.model.enums.TimesheetStatus.PENDING, " +
+            "com.synechisveltiosi.tms.model.enums.TimesheetStatus.OPEN_RESUBMITTED) ";
+    String INBOX_FROM = "FROM EmployeeHierarchy h JOIN Timesheet t ON t.employee.id = h.descendantId ";
+    String INBOX_WHERE = "WHERE h.ancestorId = :managerId AND h.depth BETWEEN 1 AND :maxDepth AND " + AWAITING_DECISION;
+    String ENTRY_HOURS = "SELECT new com.synechisveltiosi.tms.model.projection.EntryHours(" +
+            "t.employee.id, te.date, te.entryType, SUM(te.hours)) FROM TimesheetEntryDay te JOIN te.timesheet t ";
+    String ENTRY_HOURS_GROUP_BY = "GROUP BY t.employee.id, te.date, te.entryType";
+
+    @EntityGraph(Timesheet.HISTORY_GRAPH)
     @Query("SELECT t FROM Timesheet t WHERE t.employee.id = :employeeId")
     Optional<List<Timesheet>> findByEmployeeId(UUID employeeId);
 
+    @Query(TIMESHEET_ROW + "WHERE e.id = :employeeId")
+    List<TimesheetRow> findRowsByEmployeeId(UUID employeeId);
+
+    /**
+     * Keyset slice of an employee's timesheet headers, newest first, starting strictly after the
+     * {@code (afterDate, afterId)} position.
+     */
+    @Query(TIMESHEET_ROW + "WHERE e.id = :employeeId " +
+            "AND t.startDate >= :from AND t.startDate <= :to " +
+            "AND (t.startDate < :afterDate OR (t.startDate = :afterDate AND t.id < :afterId)) " +
+            "ORDER BY t.startDate DESC, t.id DESC")
+    Slice<TimesheetRow> findRowSliceByEmployeeId(UUID employeeId, LocalDate from, LocalDate to,
+                                                 LocalDate afterDate, UUID afterId, Pageable pageable);
+
+    @Query(TIMESHEET_ROW + "WHERE t.id = :timesheetId")
+    Optional<TimesheetRow> findRowById(UUID timesheetId);
+
+    @Query("SELECT new com.synechisveltiosi.tms.model.projection.TimesheetEntryRow(" +
+            "te.timesheet.id, te.id, te.taskId, te.entryType, te.date, te.hours, te.disable) " +
+            "FROM TimesheetEntryDay te WHERE te.timesheet.id IN :timesheetIds ORDER BY te.date, te.id")
+    List<TimesheetEntryRow> findEntryRows(Collection<UUID> timesheetIds);
+
+    @Query("SELECT new com.synechisveltiosi.tms.model.projection.TimesheetApprovalRow(" +
+            "ta.timesheet.id, ta.id, ta.approver.id, ta.date, ta.status, ta.comments) " +
+            "FROM TimesheetApproval ta WHERE ta.timesheet.id IN :timesheetIds ORDER BY ta.date, ta.id")
+    List<TimesheetApprovalRow> findApprovalRows(Collection<UUID> timesheetIds);
+
+    /**
+     * Forward-only stream of every entry dated within the range. Rows are projections, so nothing is added to
+     * the persistence context, and the driver fetches them in batches instead of buffering the whole result.
+     */
+    default Stream<TimesheetEntryExportRow> streamEntriesForExport(LocalDate from, LocalDate to) {
+        return streamEntriesForExport(TimesheetLine.weekStart(from), from, to);
+    }
+
+    /**
+     * {@link #streamEntriesForExport(LocalDate, LocalDate)} with the range also bounded on the weeks of the lines,
+     * which the week index serves.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.synechisveltiosi.tms.model.projection.TimesheetEntryExportRow(" +
+            "t.employee.id, t.id, t.status, te.id, te.taskId, te.date, te.entryType, te.hours) " +
+            "FROM TimesheetEntryDay te JOIN te.timesheet t WHERE te.weekStart >= :fromWeek AND te.weekStart <= :to " +
+            "AND te.date >= :from AND te.date <= :to")
+    Stream<TimesheetEntryExportRow> streamEntriesForExport(LocalDate fromWeek, LocalDate from, LocalDate to);
+
+    /**
+     * Daily hours per employee and entry type of the timesheets in the given statuses, streamed like
+     * {@link #streamEntriesForExport}.
+     */
+    default Stream<EntryHours> streamEntryHours(Collection<TimesheetStatus> statuses, LocalDate from, LocalDate to) {
+        return streamEntryHours(statuses, TimesheetLine.weekStart(from), from, to);
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(ENTRY_HOURS + "WHERE t.status IN :statuses AND te.weekStart >= :fromWeek AND te.weekStart <= :to " +
+            "AND te.date >= :from AND te.date <= :to " + ENTRY_HOURS_GROUP_BY)
+    Stream<EntryHours> streamEntryHours(Collection<TimesheetStatus> statuses, LocalDate fromWeek, LocalDate from,
+                                        LocalDate to);
+
+    /**
+     * {@link #streamEntryHours(Collection, LocalDate, LocalDate)} with the rows of each employee in a row, for
+     * consumers that handle one employee at a time.
+     */
+    default Stream<EntryHours> streamEntryHoursByEmployee(Collection<TimesheetStatus> statuses, LocalDate from,
+                                                          LocalDate to) {
+        return streamEntryHoursByEmployee(statuses, TimesheetLine.weekStart(from), from, to);
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(ENTRY_HOURS + "WHERE t.status IN :statuses AND te.weekStart >= :fromWeek AND te.weekStart <= :to " +
+            "AND te.date >= :from AND te.date <= :to " + ENTRY_HOURS_GROUP_BY + " ORDER BY t.employee.id")
+    Stream<EntryHours> streamEntryHoursByEmployee(Collection<TimesheetStatus> statuses, LocalDate fromWeek,
+                                                  LocalDate from, LocalDate to);
+
+    @Query(ENTRY_HOURS + "WHERE t.id IN :timesheetIds " + ENTRY_HOURS_GROUP_BY)
+    List<EntryHours> findEntryHours(Collection<UUID> timesheetIds);
+
+    @Query("SELECT t FROM Timesheet t WHERE t.employee.id = :employeeId AND t.startDate = :startDate AND t.endDate = :endDate")
+    Optional<Timesheet> findByEmployeeIdAndPeriod(UUID employeeId, LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT t.employee.id FROM Timesheet t " +
+            "WHERE t.employee.id IN :employeeIds AND t.startDate = :startDate AND t.endDate = :endDate")
+    Set<UUID> findEmployeeIdsWithTimesheet(Collection<UUID> employeeIds, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Keyset slice of the timesheets awaiting a decision from employees up to {@code maxDepth} levels below the
+     * manager, newest first, starting strictly after the {@code (afterDate, afterId)} position.
+     */
+    @Query("SELECT new com.synechisveltiosi.tms.model.projection.TimesheetSummary(t.id, t.status, t.startDate, " +
+            "t.endDate, e.id, e.personDetails.name.firstName, e.personDetails.name.lastName) " +
+            INBOX_FROM + "JOIN t.employee e " + INBOX_WHERE + "AND t.status IN :statuses " +
+            "AND (t.startDate < :afterDate OR (t.startDate = :afterDate AND t.id < :afterId)) " +
+            "ORDER BY t.startDate DESC, t.id DESC")
+    Slice<TimesheetSummary> findInboxSlice(UUID managerId, int maxDepth, Collection<TimesheetStatus> statuses,
+                                           LocalDate afterDate, UUID afterId, Pageable pageable);
+
+    @Query("SELECT new com.synechisveltiosi.tms.model.projection.TimesheetStatusCount(t.status, COUNT(t)) " +
+            INBOX_FROM + INBOX_WHERE + "GROUP BY t.status")
+    List<TimesheetStatusCount> countInbox(UUID managerId, int maxDepth);
+
+    @Query("SELECT new com.synechisveltiosi.tms.model.projection.TimesheetStatusRow(t.id, t.status) " +
+            "FROM Timesheet t WHERE t.id IN :timesheetIds")
+    List<TimesheetStatusRow> findStatuses(Collection<UUID> timesheetIds);
+
+    @Query("SELECT new com.synechisveltiosi.tms.model.projection.TimesheetVersionRow(t.id, t.status, t.version) " +
+            "FROM Timesheet t WHERE t.id = :timesheetId")
+    Optional<TimesheetVersionRow> findVersionRow(UUID timesheetId);
+
+    /**
+     * Moves the timesheet to {@code status} only if it is still in {@code expectedStatus} at
+     * {@code expectedVersion}, bumping the version. Returns 0 when another writer got there first; the statement
+     * takes no lock beyond the row it updates.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Timesheet t SET t.status = :status, t.version = t.version + 1 " +
+            "WHERE t.id = :timesheetId AND t.status = :expectedStatus AND t.version = :expectedVersion")
+    int compareAndSetStatus(UUID timesheetId, TimesheetStatus expectedStatus, long expectedVersion,
+                            TimesheetStatus status);
+
+    /**
+     * Moves every timesheet of the set that is still in one of {@code fromStatuses} to {@code status} in one
+     * statement and returns the ids that changed; rows decided concurrently are left untouched.
+     */
+    @Query(value = "UPDATE timesheet SET status = :status, version = version + 1 " +
+            "WHERE id IN (:timesheetIds) AND status IN (:fromStatuses) RETURNING id", nativeQuery = true)
+    List<UUID> updateStatuses(Collection<UUID> timesheetIds, Collection<String> fromStatuses, String status);
+
 }
\ No newline at end of file
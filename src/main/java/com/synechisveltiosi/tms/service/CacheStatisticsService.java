@@ -0,0 +1,38 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.response.CacheRegionStatisticsDto;
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.entity.Holiday;
+import com.synechisveltiosi.tms.model.entity.Project;
+import com.synechisveltiosi.tms.model.entity.Task;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class CacheStatisticsService {
+    static final List<String> REGIONS = List.of(
+            Task.CACHE_REGION, Project.CACHE_REGION, Holiday.CACHE_REGION, Employee.CACHE_REGION);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatisticsDto> getRegionStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return REGIONS.stream()
+                .map(region -> toDto(region, statistics.getDomainDataRegionStatistics(region)))
+                .toList();
+    }
+
+    private CacheRegionStatisticsDto toDto(String region, CacheRegionStatistics statistics) {
+        return new CacheRegionStatisticsDto(region, statistics.getHitCount(), statistics.getMissCount(),
+                statistics.getPutCount(), statistics.getElementCountInMemory());
+    }
+}
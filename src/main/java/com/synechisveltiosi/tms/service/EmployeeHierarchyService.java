@@ -0,0 +1,43 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.repository.EmployeeHierarchyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reporting-line queries answered from the employee hierarchy closure table, each in one indexed query
+ * whatever the depth of the organisation.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeHierarchyService {
+    static final int DIRECT_REPORTS = 1;
+    static final int ALL_REPORTS = Integer.MAX_VALUE;
+
+    private final EmployeeHierarchyRepository employeeHierarchyRepository;
+
+    /**
+     * Returns whether {@code managerId} is anywhere above {@code employeeId} in the reporting line.
+     */
+    public boolean isAbove(UUID managerId, UUID employeeId) {
+        return employeeHierarchyRepository.isAbove(managerId, employeeId);
+    }
+
+    public List<UUID> getReportIds(UUID managerId, boolean directOnly) {
+        return employeeHierarchyRepository.findDescendantIds(managerId, directOnly ? DIRECT_REPORTS : ALL_REPORTS);
+    }
+
+    public long countReports(UUID managerId, boolean directOnly) {
+        return employeeHierarchyRepository.countDescendants(managerId, directOnly ? DIRECT_REPORTS : ALL_REPORTS);
+    }
+
+    /**
+     * Returns the managers above the employee, nearest first.
+     */
+    public List<UUID> getManagerChain(UUID employeeId) {
+        return employeeHierarchyRepository.findAncestorIds(employeeId);
+    }
+}
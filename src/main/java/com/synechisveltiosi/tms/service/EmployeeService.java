@@ -2,8 +2,11 @@ package com.synechisveltiosi.tms.service;
 
 import com.synechisveltiosi.tms.api.exception.employee.EmployeeNotFoundException;
 import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.projection.EmployeeKey;
+import com.synechisveltiosi.tms.model.projection.EmployeeKeyRange;
 import com.synechisveltiosi.tms.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,4 +25,12 @@ public class EmployeeService {
     public List<Employee> getAllEmployee() {
         return employeeRepository.findAll();
     }
+
+    public long countEmployees() {
+        return employeeRepository.count();
+    }
+
+    public List<EmployeeKey> getEmployeeKeys(EmployeeKeyRange range, int limit) {
+        return employeeRepository.findEmployeeKeys(range.after(), range.upTo(), PageRequest.ofSize(limit));
+    }
 }
@@ -0,0 +1,51 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.projection.EmployeeKeyRange;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * One slice of a generation run. The remaining range only moves forward once a chunk has committed, so a
+ * retry resumes after the last committed employee instead of starting the slice over.
+ */
+class GenerationPartition {
+    private final int index;
+    private final int count;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final LongConsumer progress;
+    private volatile EmployeeKeyRange remaining;
+
+    GenerationPartition(int index, int count, EmployeeKeyRange range, LongConsumer progress) {
+        this.index = index;
+        this.count = count;
+        this.remaining = range;
+        this.progress = progress;
+    }
+
+    EmployeeKeyRange remaining() {
+        return remaining;
+    }
+
+    long processed() {
+        return processed.get();
+    }
+
+    long created() {
+        return created.get();
+    }
+
+    void committed(UUID lastId, int read, int written) {
+        remaining = remaining.resumeAfter(lastId);
+        processed.addAndGet(read);
+        created.addAndGet(written);
+        progress.accept(read);
+    }
+
+    @Override
+    public String toString() {
+        return (index + 1) + "/" + count;
+    }
+}
@@ -0,0 +1,118 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.entity.Holiday;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Immutable snapshot of the holidays of every region, one bit per day of year.
+ * A region's bits include the holidays of the enclosing country and the global ones, so a lookup is one
+ * map probe followed by bit tests. Storage is 48 bytes per region per year covered.
+ */
+final class HolidayCalendar {
+    static final HolidayCalendar EMPTY = new HolidayCalendar(Map.of());
+
+    private final Map<Region, RegionCalendar> regions;
+
+    private HolidayCalendar(Map<Region, RegionCalendar> regions) {
+        this.regions = regions;
+    }
+
+    static HolidayCalendar of(Collection<Holiday> holidays) {
+        Map<Region, List<LocalDate>> datesByRegion = new HashMap<>();
+        for (Holiday holiday : holidays) {
+            if (holiday.getDate() != null) {
+                datesByRegion.computeIfAbsent(Region.of(holiday.getCountry(), holiday.getState()), region -> new ArrayList<>())
+                        .add(holiday.getDate());
+            }
+        }
+        Map<Region, RegionCalendar> regions = new HashMap<>();
+        for (Region region : datesByRegion.keySet()) {
+            List<LocalDate> dates = new ArrayList<>();
+            for (Region scope = region; scope != null; scope = scope.parent()) {
+                dates.addAll(datesByRegion.getOrDefault(scope, List.of()));
+            }
+            regions.put(region, RegionCalendar.of(dates));
+        }
+        return new HolidayCalendar(Map.copyOf(regions));
+    }
+
+    /**
+     * Returns the calendar of the most specific region known for the address: state, then country, then global.
+     */
+    RegionCalendar forRegion(String country, String state) {
+        for (Region region = Region.of(country, state); region != null; region = region.parent()) {
+            RegionCalendar calendar = regions.get(region);
+            if (calendar != null) {
+                return calendar;
+            }
+        }
+        return RegionCalendar.NONE;
+    }
+
+    int regionCount() {
+        return regions.size();
+    }
+
+    record Region(String country, String state) {
+        static final Region GLOBAL = new Region("", "");
+
+        static Region of(String country, String state) {
+            String normalizedCountry = normalize(country);
+            return normalizedCountry.isEmpty() ? GLOBAL : new Region(normalizedCountry, normalize(state));
+        }
+
+        Region parent() {
+            if (!state.isEmpty()) {
+                return new Region(country, "");
+            }
+            return country.isEmpty() ? null : GLOBAL;
+        }
+
+        private static String normalize(String value) {
+            return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+        }
+    }
+
+    static final class RegionCalendar {
+        static final RegionCalendar NONE = new RegionCalendar(0, new long[0]);
+        private static final int WORDS_PER_YEAR = 6; // 366 days
+
+        private final int firstYear;
+        private final long[] words;
+
+        private RegionCalendar(int firstYear, long[] words) {
+            this.firstYear = firstYear;
+            this.words = words;
+        }
+
+        static RegionCalendar of(Collection<LocalDate> dates) {
+            int firstYear = dates.stream().mapToInt(LocalDate::getYear).min().orElse(0);
+            int lastYear = dates.stream().mapToInt(LocalDate::getYear).max().orElse(-1);
+            long[] words = new long[(lastYear - firstYear + 1) * WORDS_PER_YEAR];
+            for (LocalDate date : dates) {
+                int day = date.getDayOfYear() - 1;
+                words[(date.getYear() - firstYear) * WORDS_PER_YEAR + (day >>> 6)] |= 1L << day;
+            }
+            return new RegionCalendar(firstYear, words);
+        }
+
+        boolean isHoliday(LocalDate date) {
+            int offset = (date.getYear() - firstYear) * WORDS_PER_YEAR;
+            if (offset < 0 || offset >= words.length) {
+                return false;
+            }
+            int day = date.getDayOfYear() - 1;
+            return (words[offset + (day >>> 6)] & (1L << day)) != 0;
+        }
+
+        boolean isWorkingDay(LocalDate date) {
+            return !TimesheetService.isWeekend(date) && !isHoliday(date);
+        }
+
+        int sizeInBytes() {
+            return words.length * Long.BYTES;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.handler.HolidaysChangedEvent;
+import com.synechisveltiosi.tms.repository.HolidayRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps the {@link HolidayCalendar} in memory. It is loaded at startup and rebuilt after every committed
+ * holiday change on this node.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HolidayCalendarService {
+    private final HolidayRepository holidayRepository;
+
+    private volatile HolidayCalendar calendar = HolidayCalendar.EMPTY;
+
+    @PostConstruct
+    public void refresh() {
+        HolidayCalendar loaded = HolidayCalendar.of(holidayRepository.findAll());
+        calendar = loaded;
+        log.info("Loaded holiday calendar for {} regions", loaded.regionCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidaysChanged(HolidaysChangedEvent event) {
+        log.info("Holiday {} changed, reloading calendar", event.holidayId());
+        refresh();
+    }
+
+    public boolean isHoliday(String country, String state, LocalDate date) {
+        return calendar.forRegion(country, state).isHoliday(date);
+    }
+
+    public boolean isWorkingDay(String country, String state, LocalDate date) {
+        return calendar.forRegion(country, state).isWorkingDay(date);
+    }
+
+    HolidayCalendar getCalendar() {
+        return calendar;
+    }
+}
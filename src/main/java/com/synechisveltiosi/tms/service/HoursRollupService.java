@@ -0,0 +1,77 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.handler.TimesheetHoursChangedEvent;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.WeeklyHours;
+import com.synechisveltiosi.tms.repository.HoursRollupRepository;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Keeps the hours rollup in step with timesheet status changes. A timesheet's entries count towards the rollup
+ * while it is submitted, awaiting a decision or approved, and towards the approved hours only while approved, so
+ * every status change is applied as a +1/0/-1 weight on its entries. Changes to the reported hours are also
+ * published as a {@link TimesheetHoursChangedEvent} for in-memory views such as the utilization cube.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HoursRollupService {
+    static final Set<TimesheetStatus> REPORTED = EnumSet.of(TimesheetStatus.SUBMITTED, TimesheetStatus.PENDING,
+            TimesheetStatus.OPEN_RESUBMITTED, TimesheetStatus.APPROVED);
+    private static final String INVALID_RANGE_MESSAGE = "Start date cannot be after end date";
+
+    private final HoursRollupRepository hoursRollupRepository;
+    private final TimesheetRepository timesheetRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void recordTransition(UUID timesheetId, TimesheetStatus from, TimesheetStatus to) {
+        recordTransition(List.of(timesheetId), from, to);
+    }
+
+    /**
+     * Applies a status change of the given timesheets to the rollup. Must run before entries are removed from or
+     * after they are added to {@code timesheet_line}, as the rollup is adjusted from the stored entries.
+     */
+    @Transactional
+    public void recordTransition(Collection<UUID> timesheetIds, TimesheetStatus from, TimesheetStatus to) {
+        int reported = weight(REPORTED::contains, from, to);
+        int approved = weight(TimesheetStatus.APPROVED::equals, from, to);
+        if (timesheetIds.isEmpty() || (reported == 0 && approved == 0)) {
+            return;
+        }
+        int groups = hoursRollupRepository.addTimesheets(timesheetIds, reported, approved);
+        log.debug("Rolled up {} timesheets from {} to {} into {} groups", timesheetIds.size(), from, to, groups);
+        if (reported != 0) {
+            eventPublisher.publishEvent(new TimesheetHoursChangedEvent(timesheetRepository.findEntryHours(timesheetIds), reported));
+        }
+    }
+
+    /**
+     * Weekly hours of a project per entry type, for the ISO weeks overlapping the range.
+     */
+    public List<WeeklyHours> getProjectWeeklyHours(UUID projectId, LocalDate from, LocalDate to) {
+        log.info("Getting weekly hours for project with id: {} from {} to {}", projectId, from, to);
+        if (from.isAfter(to)) {
+            throw new TimesheetValidationException(INVALID_RANGE_MESSAGE);
+        }
+        return hoursRollupRepository.findWeeklyHoursByProjectId(projectId,
+                from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), to);
+    }
+
+    private static int weight(Predicate<TimesheetStatus> counted, TimesheetStatus from, TimesheetStatus to) {
+        return (counted.test(to) ? 1 : 0) - (counted.test(from) ? 1 : 0);
+    }
+}
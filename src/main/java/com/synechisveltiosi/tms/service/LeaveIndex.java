@@ -0,0 +1,45 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.projection.LeaveInterval;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Leave of a chunk of employees indexed by employee and by day of the generation period, so filling a
+ * timesheet is one map probe followed by array reads.
+ */
+final class LeaveIndex {
+    static final LeaveIndex EMPTY = new LeaveIndex(Map.of());
+
+    private final Map<UUID, LeaveInterval[]> leaveByEmployee;
+
+    private LeaveIndex(Map<UUID, LeaveInterval[]> leaveByEmployee) {
+        this.leaveByEmployee = leaveByEmployee;
+    }
+
+    static LeaveIndex of(LocalDate startDate, LocalDate endDate, Collection<LeaveInterval> leaves) {
+        int length = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        Map<UUID, LeaveInterval[]> leaveByEmployee = new HashMap<>();
+        for (LeaveInterval leave : leaves) {
+            LeaveInterval[] days = leaveByEmployee.computeIfAbsent(leave.employeeId(), id -> new LeaveInterval[length]);
+            int from = (int) Math.max(0, ChronoUnit.DAYS.between(startDate, leave.startDate()));
+            int to = (int) Math.min(length - 1, ChronoUnit.DAYS.between(startDate, leave.endDate()));
+            for (int day = from; day <= to; day++) {
+                days[day] = leave;
+            }
+        }
+        return new LeaveIndex(leaveByEmployee);
+    }
+
+    /**
+     * Returns the leave of each day of the period for the employee, or {@code null} if the employee has none.
+     */
+    LeaveInterval[] forEmployee(UUID employeeId) {
+        return leaveByEmployee.get(employeeId);
+    }
+}
@@ -0,0 +1,59 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.entity.TaskHours;
+import com.synechisveltiosi.tms.model.entity.TimesheetEntry;
+import com.synechisveltiosi.tms.repository.TaskHoursRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskHoursService {
+    private final TaskHoursRepository taskHoursRepository;
+
+    public TaskHours getTaskHours(Long taskId) {
+        return taskHoursRepository.findById(taskId).orElseGet(() -> new TaskHours(taskId, 0, 0));
+    }
+
+    /**
+     * Applies the difference between the entries a timesheet held before a write and the entries it holds after
+     * it. Tasks are updated in id order so concurrent writers touching the same tasks cannot deadlock.
+     */
+    @Transactional
+    public void recordReplacement(Collection<TimesheetEntry> removed, Collection<TimesheetEntry> added) {
+        Map<Long, Delta> deltas = new TreeMap<>();
+        removed.forEach(entry -> accumulate(deltas, entry, -1));
+        added.forEach(entry -> accumulate(deltas, entry, 1));
+        deltas.forEach((taskId, delta) -> {
+            if (!delta.isEmpty()) {
+                taskHoursRepository.addHours(taskId, delta.hours, delta.entries);
+            }
+        });
+        log.debug("Recorded hours for {} tasks", deltas.size());
+    }
+
+    private void accumulate(Map<Long, Delta> deltas, TimesheetEntry entry, int sign) {
+        if (entry.getTask() == null) {
+            return;
+        }
+        Delta delta = deltas.computeIfAbsent(entry.getTask().getId(), id -> new Delta());
+        delta.hours += sign * entry.getHours();
+        delta.entries += sign;
+    }
+
+    private static final class Delta {
+        private double hours;
+        private long entries;
+
+        private boolean isEmpty() {
+            return hours == 0 && entries == 0;
+        }
+    }
+}
@@ -2,15 +2,41 @@ package com.synechisveltiosi.tms.service;
 
 import com.synechisveltiosi.tms.model.entity.Task;
 import com.synechisveltiosi.tms.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class TaskService {
     private final TaskRepository taskRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public Task getTaskById(Long id) {
         return taskRepository.findById(id).orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
     }
+
+    /**
+     * Loads tasks by id through Hibernate's multi-load so ids already held in the session or the second-level cache
+     * are not queried again; the rest are fetched in one statement.
+     */
+    public Map<Long, Task> getTasksByIds(Collection<Long> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Task.class)
+                .multiLoad(List.copyOf(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
 }
@@ -0,0 +1,81 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.api.request.TimesheetBulkApprovalRequest;
+import com.synechisveltiosi.tms.api.response.TimesheetBulkApprovalDto;
+import com.synechisveltiosi.tms.model.enums.TimesheetDecisionOutcome;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.TimesheetStatusRow;
+import com.synechisveltiosi.tms.repository.TimesheetApprovalRepository;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Applies one approver decision to many timesheets at once. The cost is a fixed number of statements whatever
+ * the number of timesheets: a conditional set-wise status update, one INSERT ... SELECT for the approval rows,
+ * and a status read for the ids that could not be updated.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimesheetApprovalService {
+    static final Set<TimesheetStatus> DECISIONS = EnumSet.of(TimesheetStatus.APPROVED, TimesheetStatus.REJECTED);
+    static final Set<TimesheetStatus> AWAITING_DECISION = TimesheetStatusTransitions.sourcesOf(DECISIONS);
+    private static final String INVALID_DECISION_MESSAGE = "Cannot decide timesheets with status: %s";
+
+    private final TimesheetRepository timesheetRepository;
+    private final TimesheetApprovalRepository timesheetApprovalRepository;
+    private final EmployeeService employeeService;
+    private final HoursRollupService hoursRollupService;
+
+    @Transactional
+    public TimesheetBulkApprovalDto decideTimesheets(UUID empApproverId, TimesheetBulkApprovalRequest request) {
+        log.info("Deciding {} timesheets as {} by approver {}", request.timesheetIds().size(), request.status(), empApproverId);
+        if (!DECISIONS.contains(request.status())) {
+            throw new TimesheetValidationException(String.format(INVALID_DECISION_MESSAGE, request.status()));
+        }
+        employeeService.getEmployeeById(empApproverId);
+
+        List<UUID> timesheetIds = request.timesheetIds().stream().distinct().toList();
+        Set<UUID> updated = new HashSet<>(timesheetRepository.updateStatuses(timesheetIds,
+                AWAITING_DECISION.stream().map(Enum::name).toList(), request.status().name()));
+        if (!updated.isEmpty()) {
+            timesheetApprovalRepository.insertApprovals(updated, empApproverId, request.status().name(),
+                    Objects.requireNonNullElse(request.comments(), ""));
+            // every updated timesheet was awaiting a decision, which weighs the same as SUBMITTED in the rollup
+            hoursRollupService.recordTransition(updated, TimesheetStatus.SUBMITTED, request.status());
+        }
+        Map<UUID, TimesheetStatus> skipped = findStatuses(timesheetIds, updated);
+
+        List<TimesheetBulkApprovalDto.Outcome> outcomes = timesheetIds.stream()
+                .map(id -> toOutcome(id, request.status(), updated, skipped))
+                .toList();
+        return new TimesheetBulkApprovalDto(request.status(), updated.size(), outcomes);
+    }
+
+    private Map<UUID, TimesheetStatus> findStatuses(List<UUID> timesheetIds, Set<UUID> updated) {
+        if (updated.size() == timesheetIds.size()) {
+            return Map.of();
+        }
+        List<UUID> notUpdated = timesheetIds.stream().filter(id -> !updated.contains(id)).toList();
+        return timesheetRepository.findStatuses(notUpdated).stream()
+                .collect(Collectors.toMap(TimesheetStatusRow::id, TimesheetStatusRow::status));
+    }
+
+    private TimesheetBulkApprovalDto.Outcome toOutcome(UUID id, TimesheetStatus decision, Set<UUID> updated,
+                                                       Map<UUID, TimesheetStatus> skipped) {
+        if (updated.contains(id)) {
+            return new TimesheetBulkApprovalDto.Outcome(id, TimesheetDecisionOutcome.UPDATED, decision);
+        }
+        TimesheetStatus current = skipped.get(id);
+        return new TimesheetBulkApprovalDto.Outcome(id,
+                current == null ? TimesheetDecisionOutcome.NOT_FOUND : TimesheetDecisionOutcome.NOT_AWAITING_DECISION,
+                current);
+    }
+}
@@ -0,0 +1,78 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.entity.Timesheet;
+import com.synechisveltiosi.tms.model.entity.TimesheetApproval;
+import com.synechisveltiosi.tms.model.enums.LeaveStatus;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.EmployeeKey;
+import com.synechisveltiosi.tms.model.projection.LeaveInterval;
+import com.synechisveltiosi.tms.repository.LeaveRepository;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Persists one chunk of generated timesheets in its own transaction, then flushes and clears the
+ * persistence context so memory stays bounded by the chunk size rather than the headcount.
+ */
+@Component
+@RequiredArgsConstructor
+class TimesheetChunkWriter {
+    private final TimesheetRepository timesheetRepository;
+    private final LeaveRepository leaveRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Writes timesheets for the employees of the chunk that do not have one for the period yet, pre-filled
+     * with their approved leave.
+     *
+     * @return the number of timesheets created
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public int write(List<EmployeeKey> employees, TimesheetEntryTemplate template) {
+        Set<UUID> existing = timesheetRepository.findEmployeeIdsWithTimesheet(
+                employees.stream().map(EmployeeKey::id).toList(), template.startDate(), template.endDate());
+        List<EmployeeKey> missing = employees.stream().filter(key -> !existing.contains(key.id())).toList();
+        if (!missing.isEmpty()) {
+            LeaveIndex leave = loadLeave(missing, template);
+            missing.forEach(key -> entityManager.persist(buildTimesheet(key, template, leave)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return missing.size();
+    }
+
+    private LeaveIndex loadLeave(List<EmployeeKey> employees, TimesheetEntryTemplate template) {
+        List<LeaveInterval> leaves = leaveRepository.findLeaveIntervals(employees.stream().map(EmployeeKey::id).toList(),
+                LeaveStatus.APPROVED, template.startDate(), template.endDate());
+        return leaves.isEmpty() ? LeaveIndex.EMPTY : LeaveIndex.of(template.startDate(), template.endDate(), leaves);
+    }
+
+    private Timesheet buildTimesheet(EmployeeKey key, TimesheetEntryTemplate template, LeaveIndex leave) {
+        Employee employee = entityManager.getReference(Employee.class, key.id());
+        Employee approver = key.managerId() == null ? employee : entityManager.getReference(Employee.class, key.managerId());
+        Timesheet timesheet = Timesheet.builder()
+                .startDate(template.startDate())
+                .endDate(template.endDate())
+                .employee(employee)
+                .status(TimesheetStatus.CREATED)
+                .build();
+        timesheet.addApproval(TimesheetApproval.builder()
+                .comments("")
+                .status(TimesheetStatus.CREATED)
+                .approver(approver)
+                .build());
+        template.newEntries(key.country(), key.state(), leave.forEmployee(key.id())).forEach(timesheet::addEntry);
+        return timesheet;
+    }
+}
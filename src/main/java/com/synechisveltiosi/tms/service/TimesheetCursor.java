@@ -0,0 +1,43 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.model.projection.TimesheetRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position over {@code (start_date, id)}, handed to clients as a URL-safe string.
+ */
+record TimesheetCursor(LocalDate startDate, UUID id) {
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor: %s";
+    private static final String SEPARATOR = "|";
+
+    static TimesheetCursor of(TimesheetRow row) {
+        return new TimesheetCursor(row.startDate(), row.id());
+    }
+
+    static TimesheetCursor of(TimesheetSummary summary) {
+        return new TimesheetCursor(summary.startDate(), summary.id());
+    }
+
+    static TimesheetCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new TimesheetCursor(LocalDate.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new TimesheetValidationException(String.format(INVALID_CURSOR_MESSAGE, cursor));
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((startDate + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,66 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.entity.TimesheetEntry;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.projection.LeaveInterval;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-period layout of generated entries, computed once per run and stamped onto every timesheet.
+ * Holidays differ by region, so they are applied per timesheet from the calendar snapshot taken with the template;
+ * approved leave on the remaining working days is pre-filled with its hours.
+ */
+record TimesheetEntryTemplate(LocalDate startDate, LocalDate endDate, List<Day> days, HolidayCalendar calendar) {
+
+    record Day(LocalDate date, TimesheetEntryType entryType, boolean disable) {
+    }
+
+    static TimesheetEntryTemplate of(LocalDate startDate, LocalDate endDate) {
+        return of(startDate, endDate, HolidayCalendar.EMPTY);
+    }
+
+    static TimesheetEntryTemplate of(LocalDate startDate, LocalDate endDate, HolidayCalendar calendar) {
+        List<Day> days = new ArrayList<>();
+        LocalDate currentDate = startDate;
+        while (!currentDate.isAfter(endDate)) {
+            days.add(new Day(currentDate, TimesheetEntryType.NONE, TimesheetService.isWeekend(currentDate)));
+            currentDate = currentDate.plusDays(1);
+        }
+        return new TimesheetEntryTemplate(startDate, endDate, List.copyOf(days), calendar);
+    }
+
+    List<TimesheetEntry> newEntries(String country, String state) {
+        return newEntries(country, state, null);
+    }
+
+    /**
+     * @param leave the employee's leave per day of the period, aligned with {@link #days()}; may be {@code null}
+     */
+    List<TimesheetEntry> newEntries(String country, String state, LeaveInterval[] leave) {
+        HolidayCalendar.RegionCalendar region = calendar.forRegion(country, state);
+        List<TimesheetEntry> entries = new ArrayList<>(days.size());
+        for (int i = 0; i < days.size(); i++) {
+            Day day = days.get(i);
+            if (region.isHoliday(day.date())) {
+                entries.add(newEntry(day, TimesheetEntryType.HOLIDAY, 0, true));
+            } else if (leave != null && leave[i] != null && !day.disable()) {
+                entries.add(newEntry(day, TimesheetEntryType.LEAVE, leave[i].hours(), true));
+            } else {
+                entries.add(newEntry(day, day.entryType(), 0, day.disable()));
+            }
+        }
+        return entries;
+    }
+
+    private static TimesheetEntry newEntry(Day day, TimesheetEntryType entryType, double hours, boolean disable) {
+        return TimesheetEntry.builder()
+                .date(day.date())
+                .entryType(entryType)
+                .hours(hours)
+                .disable(disable)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.synechisveltiosi.tms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.model.projection.TimesheetEntryExportRow;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes timesheet entries as newline-delimited JSON while they are read from the database, so memory use does
+ * not depend on the size of the export.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimesheetExportService {
+    private static final String INVALID_DATES_MESSAGE = "Start date cannot be after end date";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final TimesheetRepository timesheetRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public long exportEntries(LocalDate from, LocalDate to, OutputStream outputStream) {
+        if (from.isAfter(to)) {
+            throw new TimesheetValidationException(INVALID_DATES_MESSAGE);
+        }
+        log.info("Exporting timesheet entries from {} to {}", from, to);
+        long exported = 0;
+        try (Stream<TimesheetEntryExportRow> rows = timesheetRepository.streamEntriesForExport(from, to);
+             SequenceWriter writer = objectMapper.writerFor(TimesheetEntryExportRow.class)
+                     .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                     .withRootValueSeparator(LINE_SEPARATOR)
+                     .writeValues(outputStream)) {
+            Iterator<TimesheetEntryExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                exported++;
+            }
+            if (exported > 0) {
+                // The separator only goes between records; every NDJSON record, the last included, ends with one.
+                writer.flush();
+                outputStream.write(LINE_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to export timesheet entries", ex);
+        }
+        log.info("Exported {} timesheet entries from {} to {}", exported, from, to);
+        return exported;
+    }
+}
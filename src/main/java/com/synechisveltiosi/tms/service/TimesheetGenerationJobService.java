@@ -0,0 +1,125 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetGenerationNotFoundException;
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationDto;
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationJobDto;
+import com.synechisveltiosi.tms.model.enums.TimesheetGenerationStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs timesheet generation in the background and keeps a handle per run for status polling. Concurrent
+ * requests for the same period share the run that is already in flight.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimesheetGenerationJobService {
+    private static final Duration RETENTION = Duration.ofHours(24);
+
+    private final TimesheetGenerator timesheetGenerator;
+    private final EmployeeService employeeService;
+    private final Map<UUID, GenerationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, GenerationJob> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * The employee count is read before the run is registered, outside the map's lock; a request that loses the
+     * race to register the same period returns the winner's run and discards its own. Runs are pollable before
+     * they are shared, so an id handed out is always found.
+     */
+    public TimesheetGenerationJobDto submit(LocalDate startDate, LocalDate endDate) {
+        evictExpired();
+        String key = startDate + "/" + endDate;
+        GenerationJob running = inFlight.get(key);
+        if (running != null) {
+            return running.toDto();
+        }
+        GenerationJob job = new GenerationJob(startDate, endDate, employeeService.countEmployees());
+        jobs.put(job.id, job);
+        running = inFlight.putIfAbsent(key, job);
+        if (running != null) {
+            jobs.remove(job.id);
+            return running.toDto();
+        }
+        start(key, job);
+        return job.toDto();
+    }
+
+    public TimesheetGenerationJobDto getJob(UUID jobId) {
+        GenerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new TimesheetGenerationNotFoundException("Timesheet generation not found with id: " + jobId);
+        }
+        return job.toDto();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void start(String key, GenerationJob job) {
+        log.info("Starting timesheet generation {} for {} - {}", job.id, job.startDate, job.endDate);
+        executor.submit(() -> run(key, job));
+    }
+
+    private void run(String key, GenerationJob job) {
+        try {
+            TimesheetGenerationDto result = timesheetGenerator.generate(job.startDate, job.endDate, job.processed::addAndGet);
+            job.finish(result.failures());
+        } catch (RuntimeException ex) {
+            log.error("Timesheet generation {} failed", job.id, ex);
+            job.finish(List.of(String.valueOf(ex.getMessage())));
+        } finally {
+            inFlight.remove(key, job);
+        }
+    }
+
+    private void evictExpired() {
+        long cutoff = System.currentTimeMillis() - RETENTION.toMillis();
+        jobs.values().removeIf(job -> job.finishedAt != 0 && job.finishedAt < cutoff);
+    }
+
+    private static final class GenerationJob {
+        private final UUID id = UUID.randomUUID();
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final long total;
+        private final long startedAt = System.currentTimeMillis();
+        private final AtomicLong processed = new AtomicLong();
+        private volatile long finishedAt;
+        private volatile TimesheetGenerationStatus status = TimesheetGenerationStatus.RUNNING;
+        private volatile List<String> failures = List.of();
+
+        private GenerationJob(LocalDate startDate, LocalDate endDate, long total) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.total = total;
+        }
+
+        private void finish(List<String> failures) {
+            this.failures = List.copyOf(failures);
+            this.finishedAt = System.currentTimeMillis();
+            this.status = failures.isEmpty() ? TimesheetGenerationStatus.COMPLETED : TimesheetGenerationStatus.FAILED;
+        }
+
+        private TimesheetGenerationJobDto toDto() {
+            long end = finishedAt == 0 ? System.currentTimeMillis() : finishedAt;
+            return new TimesheetGenerationJobDto(id, startDate, endDate, status, processed.get(), total,
+                    end - startedAt, failures);
+        }
+    }
+}
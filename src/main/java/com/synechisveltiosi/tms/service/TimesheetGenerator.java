@@ -0,0 +1,141 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationDto;
+import com.synechisveltiosi.tms.config.TimesheetGenerationProperties;
+import com.synechisveltiosi.tms.model.projection.EmployeeKey;
+import com.synechisveltiosi.tms.model.projection.EmployeeKeyRange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Splits the employee set into id-range partitions and generates them concurrently on a bounded pool of
+ * virtual threads. Each partition streams employees with keyset pagination and hands fixed-size chunks to
+ * {@link TimesheetChunkWriter}, which commits every chunk on its own.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class TimesheetGenerator {
+    private final EmployeeService employeeService;
+    private final TimesheetChunkWriter chunkWriter;
+    private final TimesheetGenerationProperties properties;
+    private final HolidayCalendarService holidayCalendarService;
+
+    public TimesheetGenerationDto generate(LocalDate startDate, LocalDate endDate) {
+        return generate(startDate, endDate, written -> {
+        });
+    }
+
+    /**
+     * Generates every partition, reporting the number of employees written after each committed chunk.
+     */
+    public TimesheetGenerationDto generate(LocalDate startDate, LocalDate endDate, LongConsumer progress) {
+        long started = System.currentTimeMillis();
+        TimesheetEntryTemplate template = TimesheetEntryTemplate.of(startDate, endDate, holidayCalendarService.getCalendar());
+        List<GenerationPartition> partitions = partition(properties.partitions(), progress);
+        List<String> failures = runAll(partitions, template);
+        return summarize(startDate, endDate, partitions, failures, started);
+    }
+
+    /**
+     * Generates a single partition on the calling thread; used when partitions are distributed across
+     * cluster nodes instead of local threads.
+     */
+    public TimesheetGenerationDto generatePartition(LocalDate startDate, LocalDate endDate, int index, int count) {
+        long started = System.currentTimeMillis();
+        TimesheetEntryTemplate template = TimesheetEntryTemplate.of(startDate, endDate, holidayCalendarService.getCalendar());
+        GenerationPartition partition = new GenerationPartition(index, count, EmployeeKeyRange.split(count).get(index),
+                written -> {
+                });
+        List<String> failures = new ArrayList<>();
+        try {
+            runWithRetry(partition, template);
+        } catch (RuntimeException ex) {
+            failures.add("Partition " + partition + ": " + ex.getMessage());
+        }
+        return summarize(startDate, endDate, List.of(partition), failures, started);
+    }
+
+    private TimesheetGenerationDto summarize(LocalDate startDate, LocalDate endDate, List<GenerationPartition> partitions,
+                                             List<String> failures, long started) {
+        long processed = partitions.stream().mapToLong(GenerationPartition::processed).sum();
+        long created = partitions.stream().mapToLong(GenerationPartition::created).sum();
+        TimesheetGenerationDto result = new TimesheetGenerationDto(startDate, endDate, processed, created,
+                System.currentTimeMillis() - started, failures);
+        log.info("Generated {} timesheets for {} employees for {} - {} in {} ms ({} employees/sec, {} failed partitions)",
+                result.created(), result.processed(), startDate, endDate, result.elapsedMillis(),
+                String.format("%.1f", result.employeesPerSecond()), failures.size());
+        return result;
+    }
+
+    private List<GenerationPartition> partition(int count, LongConsumer progress) {
+        List<EmployeeKeyRange> ranges = EmployeeKeyRange.split(count);
+        return IntStream.range(0, ranges.size())
+                .mapToObj(i -> new GenerationPartition(i, ranges.size(), ranges.get(i), progress))
+                .toList();
+    }
+
+    private List<String> runAll(List<GenerationPartition> partitions, TimesheetEntryTemplate template) {
+        int concurrency = Math.max(1, Math.min(properties.maxConcurrency(), partitions.size()));
+        List<Future<?>> futures = new ArrayList<>(partitions.size());
+        List<String> failures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                Thread.ofVirtual().name("timesheet-generation-", 0).factory())) {
+            partitions.forEach(partition -> futures.add(executor.submit(() -> runWithRetry(partition, template))));
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException ex) {
+                    failures.add("Partition " + partitions.get(i) + ": " + ex.getCause().getMessage());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    failures.add("Partition " + partitions.get(i) + ": interrupted");
+                }
+            }
+        }
+        return failures;
+    }
+
+    private void runWithRetry(GenerationPartition partition, TimesheetEntryTemplate template) {
+        int attempt = 0;
+        while (true) {
+            try {
+                generate(partition, template);
+                return;
+            } catch (RuntimeException ex) {
+                if (++attempt > properties.partitionRetries()) {
+                    log.error("Partition {} failed after {} attempts", partition, attempt, ex);
+                    throw ex;
+                }
+                log.warn("Partition {} failed (attempt {}), resuming after {}", partition, attempt,
+                        partition.remaining().after(), ex);
+            }
+        }
+    }
+
+    void generate(GenerationPartition partition, TimesheetEntryTemplate template) {
+        int chunkSize = properties.chunkSize();
+        List<EmployeeKey> chunk = employeeService.getEmployeeKeys(partition.remaining(), chunkSize);
+        while (!chunk.isEmpty()) {
+            int written = chunkWriter.write(chunk, template);
+            partition.committed(chunk.get(chunk.size() - 1).id(), chunk.size(), written);
+            log.info("Partition {}: {} employees processed, {} timesheets created", partition,
+                    partition.processed(), partition.created());
+            if (chunk.size() < chunkSize) {
+                return;
+            }
+            chunk = employeeService.getEmployeeKeys(partition.remaining(), chunkSize);
+        }
+    }
+}
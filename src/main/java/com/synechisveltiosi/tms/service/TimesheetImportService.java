@@ -0,0 +1,106 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.api.response.TimesheetImportDto;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.repository.TimesheetImportRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Imports timesheet entries from CSV ({@code employee_id,task_id,date,entry_type,hours}, with that header) in one
+ * transaction. Valid rows are merged into the timesheet covering their date, or into a new ISO-week timesheet when
+ * no timesheet of the employee overlaps that week; rows no timesheet can take, and rows of timesheets already
+ * submitted or decided, are rejected and those timesheets left untouched. Every affected
+ * timesheet ends in the requested status, and the hours rollups are adjusted like for a submit from the API.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimesheetImportService {
+    static final Set<TimesheetEntryType> IMPORTABLE_TYPES =
+            EnumSet.of(TimesheetEntryType.BILLABLE, TimesheetEntryType.NON_BILLABLE, TimesheetEntryType.OVERTIME);
+    static final Set<TimesheetStatus> EDITABLE =
+            TimesheetStatusTransitions.sourcesOf(EnumSet.of(TimesheetStatus.DRAFTED, TimesheetStatus.SUBMITTED));
+    static final int MAX_REPORTED_REJECTIONS = 1000;
+    private static final int ROLLUP_BATCH_SIZE = 5000;
+    private static final String INVALID_STATUS_MESSAGE = "Cannot import timesheets in status: %s";
+    private static final String INVALID_DATES_MESSAGE = "Start date cannot be after end date";
+    private static final String INVALID_FILE_MESSAGE = "Invalid timesheet import file: %s";
+
+    private final TimesheetImportRepository timesheetImportRepository;
+    private final HoursRollupService hoursRollupService;
+
+    /**
+     * @param status the status of every timesheet the import touches, drafted or submitted
+     * @param from   the earliest entry date accepted
+     * @param to     the latest entry date accepted
+     */
+    @Transactional
+    public TimesheetImportDto importEntries(InputStream csv, TimesheetStatus status, LocalDate from, LocalDate to) {
+        validateRequest(status, from, to);
+        log.info("Importing timesheet entries from {} to {} as {}", from, to, status);
+        long started = System.nanoTime();
+
+        timesheetImportRepository.createStagingTable();
+        long rows = copyRows(csv);
+        timesheetImportRepository.validateRows(IMPORTABLE_TYPES, from, to);
+        int created = timesheetImportRepository.createMissingTimesheets();
+        timesheetImportRepository.resolveTimesheets();
+        long imported = timesheetImportRepository.mergeEntries(EDITABLE);
+        List<UUID> timesheetIds = timesheetImportRepository.updateStatuses(EDITABLE, status);
+        if (status == TimesheetStatus.SUBMITTED) {
+            timesheetImportRepository.insertPendingApprovals(EDITABLE);
+        }
+        recordRollups(timesheetIds, status);
+
+        long rejected = timesheetImportRepository.countRejected(EDITABLE);
+        List<TimesheetImportDto.Rejection> rejections = rejected == 0
+                ? List.of()
+                : timesheetImportRepository.findRejections(EDITABLE, MAX_REPORTED_REJECTIONS);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Imported {} of {} rows into {} timesheets ({} created) in {} ms", imported, rows,
+                timesheetIds.size(), created, elapsedMillis);
+        return new TimesheetImportDto(status, rows, imported, rejected, created, elapsedMillis, rejections);
+    }
+
+    private void validateRequest(TimesheetStatus status, LocalDate from, LocalDate to) {
+        if (status != TimesheetStatus.DRAFTED && status != TimesheetStatus.SUBMITTED) {
+            throw new TimesheetValidationException(String.format(INVALID_STATUS_MESSAGE, status));
+        }
+        if (from.isAfter(to)) {
+            throw new TimesheetValidationException(INVALID_DATES_MESSAGE);
+        }
+    }
+
+    private long copyRows(InputStream csv) {
+        try {
+            return timesheetImportRepository.copyRows(csv);
+        } catch (DataAccessException ex) {
+            throw new TimesheetValidationException(String.format(INVALID_FILE_MESSAGE, ex.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    /**
+     * The touched timesheets were all drafted or created before the import, so their entries enter the rollups as
+     * a drafted-to-status transition, in batches that keep the id lists well below the bind parameter limit.
+     */
+    private void recordRollups(List<UUID> timesheetIds, TimesheetStatus status) {
+        for (int start = 0; start < timesheetIds.size(); start += ROLLUP_BATCH_SIZE) {
+            hoursRollupService.recordTransition(
+                    timesheetIds.subList(start, Math.min(start + ROLLUP_BATCH_SIZE, timesheetIds.size())),
+                    TimesheetStatus.DRAFTED, status);
+        }
+    }
+}
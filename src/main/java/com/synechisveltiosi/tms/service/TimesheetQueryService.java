@@ -0,0 +1,124 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetNotFoundException;
+import com.synechisveltiosi.tms.api.response.*;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.EmployeeKeyRange;
+import com.synechisveltiosi.tms.model.projection.TimesheetApprovalRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetEntryRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetStatusCount;
+import com.synechisveltiosi.tms.model.projection.TimesheetSummary;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.*;
+
+/**
+ * Read path that assembles timesheet DTOs straight from projection tuples, without hydrating managed
+ * entities or keeping dirty-checking snapshots. Always three queries: headers, entries and approvals.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimesheetQueryService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDate LATEST_START_DATE = LocalDate.of(9999, 12, 31);
+    private static final LocalDate MIN_HISTORY_DATE = LocalDate.of(1970, 1, 1);
+    private static final LocalDate MAX_HISTORY_DATE = LocalDate.of(9999, 12, 30);
+    private final TimesheetRepository timesheetRepository;
+
+    public List<TimesheetDto> getAllTimesheetByEmployeeId(UUID employeeId) {
+        log.info("Getting timesheets for employee with id: {}", employeeId);
+        List<TimesheetRow> rows = timesheetRepository.findRowsByEmployeeId(employeeId);
+        if (rows.isEmpty()) {
+            throw new TimesheetNotFoundException("Timesheet not found for employee with id: " + employeeId);
+        }
+        return assemble(rows);
+    }
+
+    /**
+     * Returns one page of the employee's timesheets, newest first, with start dates within the range. Three
+     * queries whatever the page size: the keyset slice of headers, then its entries and approvals.
+     */
+    public TimesheetSliceDto getTimesheetHistoryByEmployeeId(UUID employeeId, LocalDate from, LocalDate to,
+                                                             String cursor, int size) {
+        log.info("Getting timesheet history for employee with id: {} from {} to {}", employeeId, from, to);
+        LocalDate fromDate = from == null ? MIN_HISTORY_DATE : from;
+        LocalDate toDate = to == null ? MAX_HISTORY_DATE : to;
+        TimesheetCursor position = cursor == null
+                ? new TimesheetCursor(toDate.plusDays(1), EmployeeKeyRange.MAX_ID)
+                : TimesheetCursor.decode(cursor);
+        Slice<TimesheetRow> slice = timesheetRepository.findRowSliceByEmployeeId(employeeId, fromDate, toDate,
+                position.startDate(), position.id(), PageRequest.ofSize(Math.clamp(size, 1, MAX_PAGE_SIZE)));
+        String nextCursor = slice.hasNext() ? TimesheetCursor.of(slice.getContent().getLast()).encode() : null;
+        List<TimesheetDto> content = slice.isEmpty() ? List.of() : assemble(slice.getContent());
+        return new TimesheetSliceDto(content, nextCursor);
+    }
+
+    public TimesheetDto getTimesheetById(UUID timesheetId) {
+        log.info("Getting timesheets for timesheetId with id: {}", timesheetId);
+        TimesheetRow row = timesheetRepository.findRowById(timesheetId)
+                .orElseThrow(() -> new TimesheetNotFoundException("Timesheet not found with id: " + timesheetId));
+        return assemble(List.of(row)).getFirst();
+    }
+
+    /**
+     * Returns one page of the timesheets awaiting a decision from the manager's direct or transitive reports,
+     * with per-status counts. Two queries, both served from the hierarchy and the awaiting-decision index.
+     */
+    public TimesheetInboxDto getApprovalInbox(UUID managerId, boolean directOnly, Set<TimesheetStatus> statuses,
+                                              String cursor, int size) {
+        log.info("Getting approval inbox for manager with id: {}", managerId);
+        int maxDepth = directOnly ? EmployeeHierarchyService.DIRECT_REPORTS : EmployeeHierarchyService.ALL_REPORTS;
+        Set<TimesheetStatus> filter = statuses == null || statuses.isEmpty() ? TimesheetApprovalService.AWAITING_DECISION : statuses;
+        TimesheetCursor position = cursor == null
+                ? new TimesheetCursor(LATEST_START_DATE, EmployeeKeyRange.MAX_ID)
+                : TimesheetCursor.decode(cursor);
+        Slice<TimesheetSummary> slice = timesheetRepository.findInboxSlice(managerId, maxDepth, filter,
+                position.startDate(), position.id(), PageRequest.ofSize(Math.clamp(size, 1, MAX_PAGE_SIZE)));
+        String nextCursor = slice.hasNext() ? TimesheetCursor.of(slice.getContent().getLast()).encode() : null;
+        Map<TimesheetStatus, Long> counts = timesheetRepository.countInbox(managerId, maxDepth).stream()
+                .collect(toMap(TimesheetStatusCount::status, TimesheetStatusCount::count));
+        return new TimesheetInboxDto(counts, slice.getContent(), nextCursor);
+    }
+
+    private List<TimesheetDto> assemble(List<TimesheetRow> rows) {
+        List<UUID> timesheetIds = rows.stream().map(TimesheetRow::id).toList();
+        Map<UUID, List<TimesheetEntryDto>> entries = timesheetRepository.findEntryRows(timesheetIds).stream()
+                .collect(groupingBy(TimesheetEntryRow::timesheetId, mapping(TimesheetQueryService::toEntryDto, toList())));
+        Map<UUID, List<TimesheetApprovalDto>> approvals = timesheetRepository.findApprovalRows(timesheetIds).stream()
+                .collect(groupingBy(TimesheetApprovalRow::timesheetId, mapping(TimesheetQueryService::toApprovalDto, toList())));
+        return rows.stream()
+                .map(row -> new TimesheetDto(row.id(), row.status(), row.startDate(), row.endDate(),
+                        entries.getOrDefault(row.id(), List.of()), toEmployeeDto(row),
+                        approvals.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
+    private static EmployeeDto toEmployeeDto(TimesheetRow row) {
+        return new EmployeeDto(row.employeeId(), new PersonDetailsDto(
+                new NameDto(row.firstName(), row.lastName()),
+                new ContactDto(row.contactNumber(), row.emailAddress()),
+                new AddressDto(row.addressLine1(), row.addressLine2(), row.city(), row.state(), row.zipCode(),
+                        row.country())));
+    }
+
+    private static TimesheetEntryDto toEntryDto(TimesheetEntryRow row) {
+        return new TimesheetEntryDto(row.id(), row.taskId(), row.entryType(), row.date(), row.hours(), row.disable());
+    }
+
+    private static TimesheetApprovalDto toApprovalDto(TimesheetApprovalRow row) {
+        return new TimesheetApprovalDto(row.id(), row.approverId(), row.date(), row.status(), row.comments());
+    }
+}
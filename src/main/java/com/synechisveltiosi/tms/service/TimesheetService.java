@@ -1,5 +1,6 @@
 package com.synechisveltiosi.tms.service;
 
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetConflictException;
 import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetCreationException;
 import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetNotFoundException;
 import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetUpdateException;
@@ -7,9 +8,11 @@ import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationExcep
 import com.synechisveltiosi.tms.api.request.TimesheetApprovalRequest;
 import com.synechisveltiosi.tms.api.request.TimesheetRequest;
 import com.synechisveltiosi.tms.api.response.TimesheetDto;
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationDto;
 import com.synechisveltiosi.tms.model.entity.*;
-import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
 import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.TimesheetVersionRow;
+import com.synechisveltiosi.tms.repository.TimesheetApprovalRepository;
 import com.synechisveltiosi.tms.repository.TimesheetRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -20,78 +23,81 @@ import org.springframework.stereotype.Service;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
 
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TimesheetService {
+    private static final String CONFLICT_MESSAGE = "Timesheet %s was changed concurrently, reload it and retry";
     private final TimesheetRepository timesheetRepository;
+    private final TimesheetApprovalRepository timesheetApprovalRepository;
+    private final TimesheetQueryService timesheetQueryService;
     private final EmployeeService employeeService;
     private final TimesheetMapper timesheetMapper;
     private final TimesheetValidator timesheetValidator;
-
-    private static TimesheetEntry buildInitialTimesheetEntryFromTask(Optional<Task> task, LocalDate currentDate) {
-        return TimesheetEntry.builder()
-                .date(currentDate)
-                .entryType(TimesheetEntryType.NONE)
-                .hours(0)
-                .disable(isWeekend(currentDate))
-                .build();
-    }
+    private final TimesheetGenerator timesheetGenerator;
+    private final TaskHoursService taskHoursService;
+    private final HoursRollupService hoursRollupService;
 
     public static boolean isWeekend(LocalDate date) {
         DayOfWeek dayOfWeek = date.getDayOfWeek();
         return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
     }
 
-    @Transactional
-    public List<TimesheetDto> getAllTimesheetByEmployeeId(UUID employeeId) {
-        log.info("Getting timesheets for employee with id: {}", employeeId);
-        List<Timesheet> timesheets = getTimesheetsByEmployeeIdOrElseThrow(employeeId);
-        return timesheets.stream().map(TimesheetDto::new).toList();
-    }
-
-    @Transactional
-    public TimesheetDto getTimesheetByTimesheetById(UUID timesheetId) {
-        log.info("Getting timesheets for timesheetId with id: {}", timesheetId);
-        Timesheet timesheet = getTimesheetsByTimesheetIdOrElseThrow(timesheetId);
-        return new TimesheetDto(timesheet);
-    }
-
-    private Timesheet getTimesheetsByTimesheetIdOrElseThrow(UUID timesheetId) {
-        return timesheetRepository.findById(timesheetId)
-                .orElseThrow(() -> new TimesheetNotFoundException("Timesheet not found with id: " + timesheetId));
-    }
-
+    /**
+     * Creates the employee's timesheet for the period, or replaces the entries of the one already there, generated
+     * or drafted or rejected, when the transition table lets it move to the requested status. Timesheets awaiting a
+     * decision or already decided are refused with a {@link TimesheetUpdateException}.
+     */
     @Transactional
     public TimesheetDto draftOrSubmitTimesheet(UUID employeeId, TimesheetStatus status, TimesheetRequest timesheetRequest) {
         log.info("Creating timesheet for employee with id: {} for drafted or submitted status", employeeId);
         timesheetValidator.validateTimesheetCreation(timesheetRequest, status);
 
         Employee employee = employeeService.getEmployeeById(employeeId);
-        Timesheet timesheet = timesheetMapper.toEntity(employee, status, timesheetRequest);
+        Optional<Timesheet> existing = timesheetRepository
+                .findByEmployeeIdAndPeriod(employeeId, timesheetRequest.startDate(), timesheetRequest.endDate());
+        existing.ifPresent(t -> TimesheetStatusTransitions.requireAllowed(t.getStatus(), status));
+        List<TimesheetEntry> previousEntries = existing.map(t -> List.copyOf(t.getEntries())).orElse(List.of());
+        existing.ifPresent(t -> hoursRollupService.recordTransition(t.getId(), t.getStatus(), TimesheetStatus.DRAFTED));
+        Timesheet timesheet = existing
+                .map(t -> timesheetMapper.updateEntity(t, status, timesheetRequest))
+                .orElseGet(() -> timesheetMapper.toEntity(employee, status, timesheetRequest));
         timesheet.addApproval(createInitialApproval(employee.getManager(), TimesheetStatus.PENDING, ""));
 
         return Optional.of(timesheet)
                 .map(timesheetRepository::save)
+                .map(saved -> {
+                    taskHoursService.recordReplacement(previousEntries, saved.getEntries());
+                    hoursRollupService.recordTransition(saved.getId(), TimesheetStatus.DRAFTED, status);
+                    return saved;
+                })
                 .map(TimesheetDto::new)
                 .orElseThrow(() -> new TimesheetCreationException("Failed to create timesheet"));
     }
 
+    /**
+     * Records an approver's decision as a compare-and-set on the timesheet's status and version followed by one
+     * approval insert, without loading the timesheet. A decision that lost the race to a concurrent one fails with
+     * a {@link TimesheetConflictException} instead of overwriting it.
+     */
     @Transactional
     public TimesheetDto approveTimesheet(UUID timesheetId, UUID empApproverId, TimesheetApprovalRequest approvalRequest) {
         log.info("Approving timesheet with timesheetId {} and employeeApproverId {}", timesheetId, empApproverId);
-        Employee empApprover = employeeService.getEmployeeById(empApproverId);
-        Timesheet timesheet = getTimesheetByID(timesheetId);
-
-        timesheet.setStatus(approvalRequest.status());
-        timesheet.addApproval(createInitialApproval(empApprover, approvalRequest.status(), approvalRequest.comments()));
-
-        return Optional.of(timesheet)
-                .map(timesheetRepository::save)
-                .map(TimesheetDto::new)
-                .orElseThrow(() -> new TimesheetUpdateException("Failed to approve timesheet"));
+        employeeService.getEmployeeById(empApproverId);
+        TimesheetVersionRow current = timesheetRepository.findVersionRow(timesheetId)
+                .orElseThrow(() -> new TimesheetNotFoundException("Timesheet not found with id: " + timesheetId));
+        TimesheetStatus status = approvalRequest.status();
+        TimesheetStatusTransitions.requireAllowed(current.status(), status);
+        if (timesheetRepository.compareAndSetStatus(timesheetId, current.status(), current.version(), status) == 0) {
+            throw new TimesheetConflictException(String.format(CONFLICT_MESSAGE, timesheetId));
+        }
+        timesheetApprovalRepository.insertApprovals(List.of(timesheetId), empApproverId, status.name(),
+                Objects.requireNonNullElse(approvalRequest.comments(), ""));
+        hoursRollupService.recordTransition(timesheetId, current.status(), status);
+        return timesheetQueryService.getTimesheetById(timesheetId);
     }
 
     private TimesheetApproval createInitialApproval(Employee approver, TimesheetStatus status, String comments) {
@@ -102,41 +108,14 @@ public class TimesheetService {
                 .build();
     }
 
-    private Timesheet getTimesheetByID(UUID timesheetId) {
-        return timesheetRepository.findById(timesheetId)
-                .orElseThrow(() -> new TimesheetNotFoundException("Timesheet not found with id: " + timesheetId));
+    public TimesheetGenerationDto generateTimesheets(LocalDate startDate, LocalDate endDate) {
+        log.info("Generating timesheets for all employees from {} to {}", startDate, endDate);
+        return timesheetGenerator.generate(startDate, endDate);
     }
 
-    private List<Timesheet> getTimesheetsByEmployeeIdOrElseThrow(UUID employeeId) {
-        return timesheetRepository.findByEmployeeId(employeeId)
-                .filter(timesheetList -> !timesheetList.isEmpty())
-                .orElseThrow(() -> new TimesheetNotFoundException("Timesheet not found for employee with id: " + employeeId));
-    }
-
-    public List<TimesheetDto> generateTimesheets(LocalDate startDate, LocalDate endDate) {
-        List<Employee> allEmployee = employeeService.getAllEmployee();
-        List<Timesheet> timesheets = allEmployee.stream().map(employee -> {
-            Timesheet timesheet = timesheetMapper.createTimesheetBase(employee, TimesheetStatus.CREATED, TimesheetRequest.builder()
-                    .startDate(startDate)
-                    .endDate(endDate)
-                    .build());
-            timesheet.addApproval(createInitialApproval(allEmployee.stream().findAny().orElse(null), TimesheetStatus.CREATED, ""));
-            Collection<TimesheetEntry> timesheetEntries = generateEntry(startDate, endDate, Optional.empty());
-            timesheetEntries.forEach(timesheet::addEntry);
-            return timesheet;
-        }).toList();
-        return timesheetRepository.saveAll(timesheets)
-                .stream().map(TimesheetDto::new).toList();
-    }
-
-    private Collection<TimesheetEntry> generateEntry(LocalDate startDate, LocalDate endDate, Optional<Task> task) {
-        List<TimesheetEntry> entries = new ArrayList<>();
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            entries.add(buildInitialTimesheetEntryFromTask(task, currentDate));
-            currentDate = currentDate.plusDays(1);
-        }
-        return entries;
+    public TimesheetGenerationDto generateTimesheetPartition(LocalDate startDate, LocalDate endDate, int partition, int partitions) {
+        log.info("Generating timesheets partition {}/{} from {} to {}", partition + 1, partitions, startDate, endDate);
+        return timesheetGenerator.generatePartition(startDate, endDate, partition, partitions);
     }
 }
 
@@ -144,6 +123,8 @@ public class TimesheetService {
 @Component
 @RequiredArgsConstructor
 class TimesheetMapper {
+    private static final String UNKNOWN_TASKS_MESSAGE = "Tasks not found with ids: %s";
+
     private final TaskService taskService;
 
     public Timesheet toEntity(Employee employee, TimesheetStatus status, TimesheetRequest request) {
@@ -152,6 +133,12 @@ class TimesheetMapper {
         return timesheet;
     }
 
+    public Timesheet updateEntity(Timesheet timesheet, TimesheetStatus status, TimesheetRequest request) {
+        timesheet.setStatus(status);
+        timesheet.replaceEntries(createEntries(request.entries()));
+        return timesheet;
+    }
+
     public Timesheet createTimesheetBase(Employee employee, TimesheetStatus status, TimesheetRequest request) {
         return Timesheet.builder()
                 .startDate(request.startDate())
@@ -162,9 +149,26 @@ class TimesheetMapper {
     }
 
     public void addEntriesToTimesheet(Timesheet timesheet, List<TimesheetRequest.TimesheetEntryRequest> entries) {
-        entries.stream()
-                .map(timesheetEntryRequest -> createTimesheetEntry(timesheetEntryRequest, taskService.getTaskById(timesheetEntryRequest.taskId())))
-                .forEach(timesheet::addEntry);
+        createEntries(entries).forEach(timesheet::addEntry);
+    }
+
+    private List<TimesheetEntry> createEntries(List<TimesheetRequest.TimesheetEntryRequest> entries) {
+        Map<Long, Task> tasks = resolveTasks(entries);
+        return entries.stream()
+                .map(timesheetEntryRequest -> createTimesheetEntry(timesheetEntryRequest, tasks.get(timesheetEntryRequest.taskId())))
+                .toList();
+    }
+
+    private Map<Long, Task> resolveTasks(List<TimesheetRequest.TimesheetEntryRequest> entries) {
+        Set<Long> taskIds = entries.stream()
+                .map(TimesheetRequest.TimesheetEntryRequest::taskId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Map<Long, Task> tasks = taskService.getTasksByIds(taskIds);
+        if (tasks.size() < taskIds.size()) {
+            List<Long> unknown = taskIds.stream().filter(id -> !tasks.containsKey(id)).toList();
+            throw new TimesheetValidationException(String.format(UNKNOWN_TASKS_MESSAGE, unknown));
+        }
+        return tasks;
     }
 
     public TimesheetEntry createTimesheetEntry(TimesheetRequest.TimesheetEntryRequest request, Task rTask) {
@@ -184,6 +188,7 @@ class TimesheetValidator {
     private static final String INVALID_STATUS_MESSAGE = "Cannot create timesheet in status: %s";
     private static final String INVALID_DATES_MESSAGE = "Start date cannot be after end date";
     private static final String NO_ENTRIES_MESSAGE = "Timesheet must contain at least one entry";
+    private static final String NO_TASK_MESSAGE = "Task ID cannot be null";
 
     public void validateTimesheetCreation(TimesheetRequest request, TimesheetStatus status) {
         log.info("Validating timesheet creation request");
@@ -212,5 +217,8 @@ class TimesheetValidator {
         if (entries.isEmpty()) {
             throw new TimesheetValidationException(NO_ENTRIES_MESSAGE);
         }
+        if (entries.stream().anyMatch(entry -> entry.taskId() == null)) {
+            throw new TimesheetValidationException(NO_TASK_MESSAGE);
+        }
     }
 }
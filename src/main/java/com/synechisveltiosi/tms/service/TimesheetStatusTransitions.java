@@ -0,0 +1,65 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetUpdateException;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.synechisveltiosi.tms.model.enums.TimesheetStatus.*;
+
+/**
+ * The status changes a timesheet may go through. Approved and cancelled timesheets are final; a rejected one goes
+ * back to its employee, who redrafts, resubmits or cancels it. Every status write checks this table, either per
+ * timesheet with {@link #requireAllowed} or set-wise with a status set derived by {@link #sourcesOf}.
+ */
+final class TimesheetStatusTransitions {
+    private static final String INVALID_TRANSITION_MESSAGE = "Cannot move timesheet from %s to %s, allowed: %s";
+    private static final Map<TimesheetStatus, Set<TimesheetStatus>> ALLOWED = new EnumMap<>(TimesheetStatus.class);
+
+    static {
+        ALLOWED.put(CREATED, EnumSet.of(DRAFTED, SUBMITTED, CANCELLED));
+        ALLOWED.put(DRAFTED, EnumSet.of(DRAFTED, SUBMITTED, CANCELLED));
+        ALLOWED.put(SUBMITTED, EnumSet.of(PENDING, APPROVED, REJECTED));
+        ALLOWED.put(PENDING, EnumSet.of(APPROVED, REJECTED));
+        ALLOWED.put(OPEN_RESUBMITTED, EnumSet.of(PENDING, APPROVED, REJECTED));
+        ALLOWED.put(REJECTED, EnumSet.of(DRAFTED, OPEN_RESUBMITTED, CANCELLED));
+        ALLOWED.put(APPROVED, EnumSet.noneOf(TimesheetStatus.class));
+        ALLOWED.put(CANCELLED, EnumSet.noneOf(TimesheetStatus.class));
+    }
+
+    private TimesheetStatusTransitions() {
+    }
+
+    static boolean isAllowed(TimesheetStatus from, TimesheetStatus to) {
+        return from != null && to != null && ALLOWED.get(from).contains(to);
+    }
+
+    static Set<TimesheetStatus> allowedFrom(TimesheetStatus from) {
+        return from == null ? EnumSet.noneOf(TimesheetStatus.class) : EnumSet.copyOf(ALLOWED.get(from));
+    }
+
+    /**
+     * Returns the statuses a timesheet may move to every one of the given statuses from.
+     */
+    static Set<TimesheetStatus> sourcesOf(Set<TimesheetStatus> targets) {
+        Set<TimesheetStatus> sources = EnumSet.noneOf(TimesheetStatus.class);
+        ALLOWED.forEach((from, allowed) -> {
+            if (allowed.containsAll(targets)) {
+                sources.add(from);
+            }
+        });
+        return sources;
+    }
+
+    /**
+     * @throws TimesheetUpdateException if the table does not allow the change
+     */
+    static void requireAllowed(TimesheetStatus from, TimesheetStatus to) {
+        if (!isAllowed(from, to)) {
+            throw new TimesheetUpdateException(String.format(INVALID_TRANSITION_MESSAGE, from, to, allowedFrom(from)));
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reported hours per (employee, ISO week, entry type) held in dense {@code float} blocks of
+ * {@value #BLOCK_EMPLOYEES} employees each, laid out employee by employee and week by week so that a team's weeks
+ * are scanned sequentially. Employees get an ordinal on their first hours, and a new block is allocated when the
+ * last one is full, so the cube grows by one block at a time and never copies the hours it holds. Weeks are
+ * ordinals from the first week of a window of fixed length, and hours outside the window are dropped; the window
+ * is moved up in place with {@link #slideTo}.
+ * <p>
+ * Writers are serialized on the cube; readers do not lock and may see a timesheet half applied or a slide half
+ * done, which only matters for a single dashboard refresh. Drift from the database is detected with
+ * {@link #drift}.
+ */
+final class UtilizationCube {
+    static final int TYPES = TimesheetEntryType.values().length;
+    static final int WORKED = mask(TimesheetEntryType.BILLABLE, TimesheetEntryType.NON_BILLABLE, TimesheetEntryType.OVERTIME);
+    static final int BLOCK_EMPLOYEES = 256;
+    private static final float TOLERANCE = 0.01f;
+
+    private final int weeks;
+    private final int blockLength;
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UUID> employees = new ArrayList<>();
+    private volatile float[][] blocks = new float[0][];
+    private volatile Window window;
+
+    private UtilizationCube(LocalDate firstWeek, int weeks) {
+        this.window = new Window(firstWeek, 0);
+        this.weeks = weeks;
+        this.blockLength = Math.multiplyExact(BLOCK_EMPLOYEES, weeks * TYPES);
+    }
+
+    /**
+     * @param anyDateInFirstWeek a date of the first ISO week of the window
+     * @param weeks              number of weeks in the window
+     */
+    static UtilizationCube create(LocalDate anyDateInFirstWeek, int weeks) {
+        return new UtilizationCube(weekStart(anyDateInFirstWeek), weeks);
+    }
+
+    static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    static int mask(TimesheetEntryType... types) {
+        int mask = 0;
+        for (TimesheetEntryType type : types) {
+            mask |= 1 << type.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the bytes of hours the cube allocates once the given number of employees have hours in it.
+     */
+    static long sizeInBytes(int employees, int weeks) {
+        long blocks = (employees + BLOCK_EMPLOYEES - 1) / BLOCK_EMPLOYEES;
+        return blocks * BLOCK_EMPLOYEES * weeks * TYPES * Float.BYTES;
+    }
+
+    /**
+     * Adds hours to the cell of the employee, the week of the date and the entry type.
+     *
+     * @return {@code false} if the date falls outside the window and the hours were dropped
+     */
+    synchronized boolean add(UUID employeeId, LocalDate date, TimesheetEntryType type, double delta) {
+        Window current = window;
+        int week = current.weekOrdinal(date);
+        if (week < 0 || week >= weeks || type == null) {
+            return false;
+        }
+        int ordinal = ordinalFor(employeeId);
+        blocks[ordinal / BLOCK_EMPLOYEES][offset(ordinal, slot(current, week)) + type.ordinal()] += (float) delta;
+        return true;
+    }
+
+    /**
+     * Moves the window to start at the week of the date and keeps the hours of the weeks that stay inside it. The
+     * cells of the weeks that leave the window are cleared and reused for the weeks that enter it, so a slide
+     * allocates nothing. Hours dropped before the slide for the entering weeks stay dropped.
+     *
+     * @return the number of weeks the window moved, negative when it moved back
+     */
+    synchronized long slideTo(LocalDate anyDateInFirstWeek) {
+        Window current = window;
+        LocalDate firstWeek = weekStart(anyDateInFirstWeek);
+        long shift = (firstWeek.toEpochDay() - current.firstWeekEpochDay()) / 7;
+        if (shift == 0) {
+            return 0;
+        }
+        int entering = (int) Math.min(Math.abs(shift), weeks);
+        Window moved = new Window(firstWeek, Math.floorMod(current.firstSlot() + shift, weeks));
+        int firstEntering = shift > 0 ? weeks - entering : 0;
+        for (int week = firstEntering; week < firstEntering + entering; week++) {
+            clearSlot(slot(moved, week));
+        }
+        window = moved;
+        return shift;
+    }
+
+    LocalDate firstWeek() {
+        return window.firstWeek();
+    }
+
+    int weeks() {
+        return weeks;
+    }
+
+    synchronized int employeeCount() {
+        return employees.size();
+    }
+
+    /**
+     * Returns the week ordinal of the date, negative or past {@link #weeks()} when outside the window.
+     */
+    int weekOrdinal(LocalDate date) {
+        return window.weekOrdinal(date);
+    }
+
+    /**
+     * Returns the ordinals of the employees that have hours in the cube; employees without any are left out.
+     */
+    synchronized int[] ordinalsOf(Iterable<UUID> employeeIds) {
+        int[] result = new int[16];
+        int size = 0;
+        for (UUID employeeId : employeeIds) {
+            Integer ordinal = ordinals.get(employeeId);
+            if (ordinal != null) {
+                if (size == result.length) {
+                    result = Arrays.copyOf(result, size * 2);
+                }
+                result[size++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Sums the hours of the given employees and entry types per week.
+     *
+     * @param members  employee ordinals, see {@link #ordinalsOf}
+     * @param typeMask entry types to include, see {@link #mask}
+     * @return hours per week ordinal from {@code fromWeek} to {@code toWeek} inclusive
+     */
+    float[] weeklyHours(int[] members, int fromWeek, int toWeek, int typeMask) {
+        int from = Math.max(fromWeek, 0);
+        int to = Math.min(toWeek, weeks - 1);
+        float[] result = new float[Math.max(toWeek - fromWeek + 1, 0)];
+        Window current = window;
+        float[][] cells = blocks;
+        for (int member : members) {
+            float[] block = cells[member / BLOCK_EMPLOYEES];
+            for (int week = from; week <= to; week++) {
+                int offset = offset(member, slot(current, week));
+                float sum = 0;
+                for (int type = 0; type < TYPES; type++) {
+                    if ((typeMask & (1 << type)) != 0) {
+                        sum += block[offset + type];
+                    }
+                }
+                result[week - fromWeek] += sum;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Hours of the given employees per entry type over the weeks, indexed by {@link TimesheetEntryType#ordinal()}.
+     */
+    float[] hoursByType(int[] members, int fromWeek, int toWeek) {
+        int from = Math.max(fromWeek, 0);
+        int to = Math.min(toWeek, weeks - 1);
+        float[] result = new float[TYPES];
+        Window current = window;
+        float[][] cells = blocks;
+        for (int member : members) {
+            float[] block = cells[member / BLOCK_EMPLOYEES];
+            for (int week = from; week <= to; week++) {
+                int offset = offset(member, slot(current, week));
+                for (int type = 0; type < TYPES; type++) {
+                    result[type] += block[offset + type];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Share of the worked hours (billable, non-billable and overtime) that are billable, or 0 without worked hours.
+     */
+    double billableRatio(int[] members, int fromWeek, int toWeek) {
+        float[] byType = hoursByType(members, fromWeek, toWeek);
+        double worked = 0;
+        for (int type = 0; type < TYPES; type++) {
+            if ((WORKED & (1 << type)) != 0) {
+                worked += byType[type];
+            }
+        }
+        return worked == 0 ? 0 : byType[TimesheetEntryType.BILLABLE.ordinal()] / worked;
+    }
+
+    /**
+     * Starts a comparison of the cube with hours read back from the database, see {@link Drift}.
+     */
+    Drift drift() {
+        return new Drift();
+    }
+
+    long sizeInBytes() {
+        return (long) blocks.length * blockLength * Float.BYTES;
+    }
+
+    /**
+     * Counts the cells of the employee that differ from the expected week-by-type row of the window by more than a
+     * rounding error, and marks the employee as compared. An employee without hours in the cube is compared against
+     * zeros.
+     */
+    private synchronized long countMismatches(UUID employeeId, float[] expected, Window expectedWindow,
+                                              BitSet compared) {
+        Integer ordinal = ordinals.get(employeeId);
+        if (ordinal != null && compared.get(ordinal)) {
+            throw new IllegalStateException("Hours of employee " + employeeId + " were not fed in a row");
+        }
+        float[] block = ordinal == null ? null : blocks[ordinal / BLOCK_EMPLOYEES];
+        long mismatches = 0;
+        for (int week = 0; week < weeks; week++) {
+            int offset = block == null ? -1 : offset(ordinal, slot(expectedWindow, week));
+            for (int type = 0; type < TYPES; type++) {
+                float actual = block == null ? 0 : block[offset + type];
+                if (Math.abs(actual - expected[week * TYPES + type]) > TOLERANCE) {
+                    mismatches++;
+                }
+            }
+        }
+        if (ordinal != null) {
+            compared.set(ordinal);
+        }
+        return mismatches;
+    }
+
+    /**
+     * Counts the non-zero cells of the employees that were not compared, which the database has no hours for.
+     */
+    private synchronized long countUncompared(BitSet compared) {
+        long mismatches = 0;
+        int count = employees.size();
+        for (int ordinal = compared.nextClearBit(0); ordinal < count; ordinal = compared.nextClearBit(ordinal + 1)) {
+            float[] block = blocks[ordinal / BLOCK_EMPLOYEES];
+            int offset = offset(ordinal, 0);
+            for (int cell = 0; cell < weeks * TYPES; cell++) {
+                if (Math.abs(block[offset + cell]) > TOLERANCE) {
+                    mismatches++;
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    private int slot(Window window, int week) {
+        return (window.firstSlot() + week) % weeks;
+    }
+
+    /**
+     * Returns the offset of the employee's slot within the employee's block.
+     */
+    private int offset(int ordinal, int slot) {
+        return (ordinal % BLOCK_EMPLOYEES * weeks + slot) * TYPES;
+    }
+
+    private void clearSlot(int slot) {
+        for (float[] block : blocks) {
+            for (int row = 0; row < BLOCK_EMPLOYEES; row++) {
+                int offset = offset(row, slot);
+                Arrays.fill(block, offset, offset + TYPES, 0);
+            }
+        }
+    }
+
+    private int ordinalFor(UUID employeeId) {
+        Integer ordinal = ordinals.get(employeeId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int next = employees.size();
+        if (next == blocks.length * BLOCK_EMPLOYEES) {
+            float[][] grown = Arrays.copyOf(blocks, blocks.length + 1);
+            grown[blocks.length] = new float[blockLength];
+            blocks = grown;
+        }
+        employees.add(employeeId);
+        ordinals.put(employeeId, next);
+        return next;
+    }
+
+    /**
+     * First week of the window and the slot it is stored in. Each employee's weeks form a ring of slots starting at
+     * {@code firstSlot}, so that sliding the window only reassigns slots.
+     */
+    private record Window(LocalDate firstWeek, long firstWeekEpochDay, int firstSlot) {
+        Window(LocalDate firstWeek, int firstSlot) {
+            this(firstWeek, firstWeek.toEpochDay(), firstSlot);
+        }
+
+        int weekOrdinal(LocalDate date) {
+            return (int) Math.floorDiv(date.toEpochDay() - firstWeekEpochDay, 7);
+        }
+    }
+
+    /**
+     * Compares the cube with hours read back from the database without building a second cube. Hours are fed
+     * employee by employee, and an employee's cells are compared as soon as the hours of the next employee arrive,
+     * so the comparison holds one employee's weeks and a bit per employee. The cube is locked only while one
+     * employee is compared, not while the hours are read. Weeks are those of the window when the comparison started;
+     * a slide in between shows up as drift.
+     */
+    final class Drift {
+        private final Window expectedWindow = window;
+        private final float[] expected = new float[weeks * TYPES];
+        private final BitSet compared = new BitSet();
+        private UUID employeeId;
+        private long mismatches;
+
+        private Drift() {
+        }
+
+        /**
+         * Feeds hours of the database; all hours of an employee must be fed in a row.
+         */
+        void add(UUID employeeId, LocalDate date, TimesheetEntryType type, double hours) {
+            if (!employeeId.equals(this.employeeId)) {
+                compareEmployee();
+                this.employeeId = employeeId;
+            }
+            int week = expectedWindow.weekOrdinal(date);
+            if (week >= 0 && week < weeks && type != null) {
+                expected[week * TYPES + type.ordinal()] += (float) hours;
+            }
+        }
+
+        /**
+         * Returns the cells that differ from the fed hours by more than a rounding error; cells of employees the
+         * database has no hours for count when they are not zero.
+         */
+        long finish() {
+            compareEmployee();
+            employeeId = null;
+            return mismatches + countUncompared(compared);
+        }
+
+        private void compareEmployee() {
+            if (employeeId != null) {
+                mismatches += countMismatches(employeeId, expected, expectedWindow, compared);
+                Arrays.fill(expected, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.api.response.TeamUtilizationDto;
+import com.synechisveltiosi.tms.api.response.UtilizationCubeCheckDto;
+import com.synechisveltiosi.tms.config.UtilizationCubeProperties;
+import com.synechisveltiosi.tms.handler.TimesheetHoursChangedEvent;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.projection.EntryHours;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Serves utilization dashboards from the {@link UtilizationCube}. The cube is built from the
+ * {@code timesheet_entry_day} view once the application is ready and then updated in place from every committed
+ * {@link TimesheetHoursChangedEvent}, so it holds the same hours as the {@code total_hours} of the hours rollup. Hours changed on other nodes are not
+ * seen until the next rebuild; {@link #verify} measures that drift and optionally rebuilds.
+ * <p>
+ * The window is slid up to the current week every Monday, so hours of new weeks keep landing in the cube. Hours
+ * that still fall outside the window are dropped, logged and counted in the {@link #verify} result.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UtilizationCubeService {
+    private static final String INVALID_DATES_MESSAGE = "Start date cannot be after end date";
+    private static final int ABSENCE = UtilizationCube.mask(TimesheetEntryType.HOLIDAY, TimesheetEntryType.LEAVE);
+    private static final int BILLABLE = UtilizationCube.mask(TimesheetEntryType.BILLABLE);
+
+    private final UtilizationCubeLoader utilizationCubeLoader;
+    private final EmployeeHierarchyService employeeHierarchyService;
+    private final UtilizationCubeProperties properties;
+
+    private final AtomicLong droppedEntries = new AtomicLong();
+
+    private volatile UtilizationCube cube = UtilizationCube.create(LocalDate.now(), 1);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        UtilizationCube built = utilizationCubeLoader.load(currentFirstWeek(), properties.weeks());
+        cube = built;
+        log.info("Built utilization cube of {} employees x {} weeks ({} bytes) in {} ms", built.employeeCount(),
+                built.weeks(), built.sizeInBytes(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Scheduled(cron = "0 0 0 * * MON")
+    public void slideWindow() {
+        UtilizationCube current = cube;
+        long weeks = current.slideTo(currentFirstWeek());
+        if (weeks != 0) {
+            log.info("Slid utilization cube window by {} weeks to start at {}", weeks, current.firstWeek());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTimesheetHoursChanged(TimesheetHoursChangedEvent event) {
+        UtilizationCube current = cube;
+        int dropped = 0;
+        double droppedHours = 0;
+        for (EntryHours hours : event.hours()) {
+            if (!current.add(hours.employeeId(), hours.date(), hours.entryType(), event.weight() * hours.hours())) {
+                dropped++;
+                droppedHours += event.weight() * hours.hours();
+            }
+        }
+        if (dropped > 0) {
+            log.warn("Dropped {} entries ({} hours) outside the utilization cube window from {}, {} since start",
+                    dropped, droppedHours, current.firstWeek(), droppedEntries.addAndGet(dropped));
+        }
+    }
+
+    public TeamUtilizationDto getTeamUtilization(UUID managerId, boolean directOnly, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new TimesheetValidationException(INVALID_DATES_MESSAGE);
+        }
+        UtilizationCube current = cube;
+        int[] members = current.ordinalsOf(employeeHierarchyService.getReportIds(managerId, directOnly));
+        int fromWeek = current.weekOrdinal(from);
+        int toWeek = current.weekOrdinal(to);
+        float[] worked = current.weeklyHours(members, fromWeek, toWeek, UtilizationCube.WORKED);
+        float[] billable = current.weeklyHours(members, fromWeek, toWeek, BILLABLE);
+        float[] absence = current.weeklyHours(members, fromWeek, toWeek, ABSENCE);
+
+        List<TeamUtilizationDto.Week> weeks = new ArrayList<>(worked.length);
+        for (int week = 0; week < worked.length; week++) {
+            weeks.add(new TeamUtilizationDto.Week(current.firstWeek().plusWeeks(fromWeek + week),
+                    worked[week], billable[week], absence[week]));
+        }
+        return new TeamUtilizationDto(managerId, members.length, current.billableRatio(members, fromWeek, toWeek), weeks);
+    }
+
+    /**
+     * Counts the cells in which the live cube differs from the database, reading the hours back employee by employee
+     * so that no second cube is built. Hours committed while they are read may be counted as drift. With
+     * {@code rebuild}, a fresh cube then replaces the live one, which also moves the window up to the current week;
+     * the live cube stays in service while the fresh one is built, so a rebuild briefly needs memory for both.
+     */
+    public UtilizationCubeCheckDto verify(boolean rebuild) {
+        long mismatches = utilizationCubeLoader.countMismatches(cube);
+        log.info("Utilization cube differs from the database in {} cells", mismatches);
+        if (rebuild) {
+            rebuild();
+        }
+        UtilizationCube checked = cube;
+        return new UtilizationCubeCheckDto(checked.firstWeek(), checked.weeks(), checked.employeeCount(),
+                checked.sizeInBytes(), mismatches, droppedEntries.get(), rebuild);
+    }
+
+    private LocalDate currentFirstWeek() {
+        return LocalDate.now().minusWeeks(properties.historyWeeks());
+    }
+}
+
+@Component
+@RequiredArgsConstructor
+class UtilizationCubeLoader {
+    private final TimesheetRepository timesheetRepository;
+
+    @Transactional
+    public UtilizationCube load(LocalDate firstWeek, int weeks) {
+        UtilizationCube cube = UtilizationCube.create(firstWeek, weeks);
+        LocalDate lastDay = cube.firstWeek().plusWeeks(weeks).minusDays(1);
+        try (Stream<EntryHours> rows = timesheetRepository.streamEntryHours(HoursRollupService.REPORTED,
+                cube.firstWeek(), lastDay)) {
+            rows.forEach(row -> cube.add(row.employeeId(), row.date(), row.entryType(), row.hours()));
+        }
+        return cube;
+    }
+
+    @Transactional
+    public long countMismatches(UtilizationCube cube) {
+        UtilizationCube.Drift drift = cube.drift();
+        LocalDate lastDay = cube.firstWeek().plusWeeks(cube.weeks()).minusDays(1);
+        try (Stream<EntryHours> rows = timesheetRepository.streamEntryHoursByEmployee(HoursRollupService.REPORTED,
+                cube.firstWeek(), lastDay)) {
+            rows.forEach(row -> drift.add(row.employeeId(), row.date(), row.entryType(), row.hours()));
+        }
+        return drift.finish();
+    }
+}
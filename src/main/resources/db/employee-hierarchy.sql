@@ -0,0 +1,69 @@
+-- Keeps employee_hierarchy, the closure table of the employee -> manager relation, in step with every write to
+-- employee and employee_manager, whichever code path makes it. Statements are separated by '@@' because the
+-- function bodies contain semicolons. Every statement is idempotent so the script can run on each startup.
+
+CREATE OR REPLACE FUNCTION employee_hierarchy_add_self() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) VALUES (NEW.id, NEW.id, 0)
+    ON CONFLICT DO NOTHING;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql@@
+
+CREATE OR REPLACE FUNCTION employee_hierarchy_remove_self() RETURNS trigger AS $$
+BEGIN
+    DELETE FROM employee_hierarchy WHERE ancestor_id = OLD.id OR descendant_id = OLD.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql@@
+
+-- Moving an employee moves their whole subtree: links from the old ancestors to every member of the subtree are
+-- removed, then every ancestor of the new manager is linked to every member of the subtree.
+CREATE OR REPLACE FUNCTION employee_hierarchy_move() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM employee_hierarchy link
+        USING employee_hierarchy sub, employee_hierarchy sup
+        WHERE sub.ancestor_id = OLD.employee_id
+          AND sup.descendant_id = OLD.employee_id AND sup.depth > 0
+          AND link.ancestor_id = sup.ancestor_id AND link.descendant_id = sub.descendant_id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.manager_id IS NOT NULL THEN
+        IF EXISTS (SELECT 1 FROM employee_hierarchy
+                   WHERE ancestor_id = NEW.employee_id AND descendant_id = NEW.manager_id) THEN
+            RAISE EXCEPTION 'Employee % cannot report to % who is in their own reporting line',
+                NEW.employee_id, NEW.manager_id;
+        END IF;
+        INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth)
+        SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1
+        FROM employee_hierarchy sup
+        JOIN employee_hierarchy sub ON sub.ancestor_id = NEW.employee_id
+        WHERE sup.descendant_id = NEW.manager_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql@@
+
+DROP TRIGGER IF EXISTS trg_employee_hierarchy_add_self ON employee@@
+CREATE TRIGGER trg_employee_hierarchy_add_self AFTER INSERT ON employee
+    FOR EACH ROW EXECUTE FUNCTION employee_hierarchy_add_self()@@
+
+DROP TRIGGER IF EXISTS trg_employee_hierarchy_remove_self ON employee@@
+CREATE TRIGGER trg_employee_hierarchy_remove_self AFTER DELETE ON employee
+    FOR EACH ROW EXECUTE FUNCTION employee_hierarchy_remove_self()@@
+
+DROP TRIGGER IF EXISTS trg_employee_hierarchy_move ON employee_manager@@
+CREATE TRIGGER trg_employee_hierarchy_move AFTER INSERT OR UPDATE OR DELETE ON employee_manager
+    FOR EACH ROW EXECUTE FUNCTION employee_hierarchy_move()@@
+
+-- Backfill for databases that had employees before the triggers existed.
+INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth)
+WITH RECURSIVE chain (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM employee
+    UNION ALL
+    SELECT em.manager_id, chain.descendant_id, chain.depth + 1
+    FROM chain
+    JOIN employee_manager em ON em.employee_id = chain.ancestor_id
+)
+SELECT ancestor_id, descendant_id, depth FROM chain
+ON CONFLICT DO NOTHING@@
@@ -0,0 +1,23 @@
+-- Natural key of the hours rollup. Entries without a task are rolled up under a NULL project and task, so NULLs
+-- must compare equal for HoursRollupRepository#addTimesheets to upsert them (PostgreSQL 15+). The leading
+-- project_id column also serves the per-project weekly report.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_hours_rollup_key
+    ON hours_rollup (project_id, task_id, employee_id, week_start, entry_type) NULLS NOT DISTINCT@@
+
+
+-- Backfill for databases that had reported timesheets before the rollup existed, mirroring
+-- HoursRollupRepository#addTimesheets with the weights of each status. It only runs while the table is empty, so
+-- the rollup is built once and then left to the incremental updates; a second node starting at the same time
+-- skips the rows the first one inserted. Runs after db/timesheet-line.sql, which creates timesheet_entry_day.
+INSERT INTO hours_rollup (project_id, task_id, employee_id, week_start, entry_type, total_hours, approved_hours,
+                          entry_count)
+SELECT tk.project_id, te.task_id, t.employee_id, te.week_start, te.entry_type, SUM(te.hours),
+       COALESCE(SUM(te.hours) FILTER (WHERE t.status = 'APPROVED'), 0), COUNT(*)
+FROM timesheet_entry_day te
+JOIN timesheet t ON t.id = te.timesheet_id
+LEFT JOIN task tk ON tk.id = te.task_id
+WHERE t.status IN ('SUBMITTED', 'PENDING', 'OPEN_RESUBMITTED', 'APPROVED')
+  AND NOT EXISTS (SELECT 1 FROM hours_rollup)
+GROUP BY tk.project_id, te.task_id, t.employee_id, te.week_start, te.entry_type
+ORDER BY 1, 2, 3, 4, 5
+ON CONFLICT DO NOTHING@@
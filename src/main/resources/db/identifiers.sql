@@ -0,0 +1,32 @@
+-- Identifier support shared by the other scripts, which is why it runs first. Statements are separated by '@@' and
+-- every statement is idempotent so the script can run on each startup.
+
+-- Version 7 UUID, the same layout as TimeOrderedUuidGenerator: the Unix time in milliseconds over the first six
+-- bytes of a random UUID, and the version bits set from 4 to 7.
+CREATE OR REPLACE FUNCTION uuid_time_ordered() RETURNS uuid AS $$
+    SELECT CAST(encode(set_bit(set_bit(overlay(uuid_send(gen_random_uuid())
+        PLACING substring(int8send(CAST(floor(extract(epoch FROM clock_timestamp()) * 1000) AS bigint)) FROM 3)
+        FROM 1 FOR 6), 52, 1), 53, 1), 'hex') AS uuid)
+$$ LANGUAGE sql VOLATILE@@
+
+-- Numeric ids come from pooled sequences (pooled-lo: a value v reserves v to v + 49 for Hibernate). Databases kept
+-- across upgrades with ddl-auto update hold ids assigned by the former identity columns while Hibernate creates the
+-- sequences from 1, so each sequence is moved past the largest id in use. Identity columns keep accepting the
+-- explicit ids.
+DO $$
+DECLARE
+    entity text;
+    largest bigint;
+BEGIN
+    FOREACH entity IN ARRAY ARRAY['task', 'holiday', 'timesheet_approval'] LOOP
+        IF to_regclass(entity) IS NULL OR to_regclass(entity || '_seq') IS NULL THEN
+            CONTINUE;
+        END IF;
+        EXECUTE format('SELECT max(id) FROM %I', entity) INTO largest;
+        IF largest IS NOT NULL THEN
+            EXECUTE format('SELECT setval(%L, %s) FROM %I WHERE last_value < %s', entity || '_seq', largest,
+                           entity || '_seq', largest);
+        END IF;
+    END LOOP;
+END
+$$@@
@@ -0,0 +1,11 @@
+-- Backfill for databases that had timesheet entries before task_hours existed. TaskHoursService keeps the totals
+-- with deltas from then on, so the table is only filled while it is empty; a second node starting at the same
+-- time skips the tasks the first one inserted. Runs after db/timesheet-line.sql, which creates timesheet_entry_day.
+INSERT INTO task_hours (task_id, total_hours, entry_count)
+SELECT te.task_id, SUM(te.hours), COUNT(*)
+FROM timesheet_entry_day te
+WHERE te.task_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM task_hours)
+GROUP BY te.task_id
+ORDER BY te.task_id
+ON CONFLICT DO NOTHING@@
@@ -0,0 +1,6 @@
+-- Partial covering index for the manager approval inbox: only timesheets awaiting a decision are indexed, in
+-- inbox order per employee, with the remaining listed columns included so the inbox is served by index-only scans.
+-- The status list must match the literal predicate in TimesheetRepository#AWAITING_DECISION.
+CREATE INDEX IF NOT EXISTS idx_timesheet_awaiting_decision
+    ON timesheet (employee_id, start_date DESC, id DESC) INCLUDE (status, end_date)
+    WHERE status IN ('SUBMITTED', 'PENDING', 'OPEN_RESUBMITTED')@@
@@ -0,0 +1,81 @@
+-- Packed storage of timesheet entries (TimesheetLine): one timesheet_line row per timesheet, task, ISO week and
+-- seq holds the seven days of the week. Statements are separated by '@@' because the function bodies contain
+-- semicolons, and every statement is idempotent so the script can run on each startup.
+
+-- Natural key of a line. Entries without a task are packed under a NULL task, so NULLs must compare equal for
+-- TimesheetImportRepository to upsert them (PostgreSQL 15+). The leading timesheet_id column serves the loads of a
+-- timesheet's lines.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_timesheet_line_key
+    ON timesheet_line (timesheet_id, task_id, week_start, seq) NULLS NOT DISTINCT@@
+
+-- Entry type codes, the same table as TimesheetEntryType#code; '-' is a day without a type.
+CREATE OR REPLACE FUNCTION timesheet_entry_type_code(entry_type text) RETURNS text AS $$
+    SELECT CASE entry_type WHEN 'NONE' THEN 'N' WHEN 'BILLABLE' THEN 'B' WHEN 'NON_BILLABLE' THEN 'U'
+        WHEN 'OVERTIME' THEN 'O' WHEN 'HOLIDAY' THEN 'H' WHEN 'LEAVE' THEN 'L' ELSE '-' END
+$$ LANGUAGE sql IMMUTABLE@@
+
+CREATE OR REPLACE FUNCTION timesheet_entry_type_name(code text) RETURNS text AS $$
+    SELECT CASE code WHEN 'N' THEN 'NONE' WHEN 'B' THEN 'BILLABLE' WHEN 'U' THEN 'NON_BILLABLE'
+        WHEN 'O' THEN 'OVERTIME' WHEN 'H' THEN 'HOLIDAY' WHEN 'L' THEN 'LEAVE' END
+$$ LANGUAGE sql IMMUTABLE@@
+
+-- Packs (day, value) pairs, days 0 (Monday) to 6, into the fixed-length columns of a line.
+CREATE OR REPLACE FUNCTION timesheet_line_hours(days int[], hours float8[]) RETURNS float8[] AS $$
+    SELECT array_agg(coalesce(h.hours, 0) ORDER BY d.day)
+    FROM generate_series(0, 6) AS d(day) LEFT JOIN unnest(days, hours) AS h(day, hours) ON h.day = d.day
+$$ LANGUAGE sql IMMUTABLE@@
+
+CREATE OR REPLACE FUNCTION timesheet_line_types(days int[], codes text[]) RETURNS text AS $$
+    SELECT string_agg(coalesce(t.code, '-'), '' ORDER BY d.day)
+    FROM generate_series(0, 6) AS d(day) LEFT JOIN unnest(days, codes) AS t(day, code) ON t.day = d.day
+$$ LANGUAGE sql IMMUTABLE@@
+
+-- Takes the days of the mask from the replacement and the other days from the current value.
+CREATE OR REPLACE FUNCTION timesheet_line_merge_hours(current float8[], replacement float8[], days int)
+    RETURNS float8[] AS $$
+    SELECT array_agg(CASE WHEN days & (1 << d.day) <> 0 THEN replacement[d.day + 1] ELSE current[d.day + 1] END
+                     ORDER BY d.day)
+    FROM generate_series(0, 6) AS d(day)
+$$ LANGUAGE sql IMMUTABLE@@
+
+CREATE OR REPLACE FUNCTION timesheet_line_merge_types(current text, replacement text, days int) RETURNS text AS $$
+    SELECT string_agg(substr(CASE WHEN days & (1 << d.day) <> 0 THEN replacement ELSE current END, d.day + 1, 1), ''
+                      ORDER BY d.day)
+    FROM generate_series(0, 6) AS d(day)
+$$ LANGUAGE sql IMMUTABLE@@
+
+-- One row per stored day, with the columns of the former timesheet_entry table plus the week of the line. Entry
+-- ids are the line id with its last hex digit, always 0 in line ids, replaced by the day (TimesheetLine#entryId).
+CREATE OR REPLACE VIEW timesheet_entry_day AS
+SELECT CAST(overlay(CAST(l.id AS text) PLACING CAST(d.day AS text) FROM 36 FOR 1) AS uuid) AS id,
+       l.timesheet_id, l.task_id, l.week_start, l.week_start + d.day AS date,
+       timesheet_entry_type_name(substr(l.entry_types, d.day + 1, 1)) AS entry_type,
+       l.hours[d.day + 1] AS hours, l.disabled_days & (1 << d.day) <> 0 AS disable
+FROM timesheet_line l CROSS JOIN generate_series(0, 6) AS d(day)
+WHERE l.entry_days & (1 << d.day) <> 0@@
+
+-- One-off rewrite of databases created before the packed storage, where ddl-auto update leaves the former
+-- timesheet_entry table in place: its rows are packed into lines, the n-th entry of a timesheet for the same task
+-- and day going to the line with seq n - 1, and the table is dropped. The advisory lock keeps nodes starting
+-- together from migrating twice.
+DO $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('timesheet_line_migration'));
+    IF to_regclass('timesheet_entry') IS NULL THEN
+        RETURN;
+    END IF;
+    INSERT INTO timesheet_line (id, version, timesheet_id, task_id, week_start, seq, entry_days, disabled_days,
+                                entry_types, hours)
+    SELECT CAST(overlay(CAST(uuid_time_ordered() AS text) PLACING '0' FROM 36 FOR 1) AS uuid), 0,
+           e.timesheet_id, e.task_id, e.week_start, e.seq, CAST(bit_or(1 << e.day) AS smallint),
+           CAST(coalesce(bit_or(1 << e.day) FILTER (WHERE e.disable), 0) AS smallint),
+           timesheet_line_types(array_agg(e.day), array_agg(timesheet_entry_type_code(e.entry_type))),
+           timesheet_line_hours(array_agg(e.day), array_agg(e.hours))
+    FROM (SELECT te.timesheet_id, te.task_id, CAST(date_trunc('week', te.date) AS date) AS week_start,
+                 CAST(extract(isodow FROM te.date) AS int) - 1 AS day, te.entry_type, te.hours, te.disable,
+                 row_number() OVER (PARTITION BY te.timesheet_id, te.task_id, te.date ORDER BY te.id) - 1 AS seq
+          FROM timesheet_entry te) e
+    GROUP BY e.timesheet_id, e.task_id, e.week_start, e.seq;
+    DROP TABLE timesheet_entry;
+END
+$$@@
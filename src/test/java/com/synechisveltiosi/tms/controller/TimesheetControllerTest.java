@@ -1,11 +1,13 @@
 package com.synechisveltiosi.tms.controller;
 
 import com.synechisveltiosi.tms.api.request.TimesheetApprovalRequest;
+import com.synechisveltiosi.tms.api.request.TimesheetBulkApprovalRequest;
 import com.synechisveltiosi.tms.api.response.TimesheetDto;
 import com.synechisveltiosi.tms.util.DataUtils;
 import com.synechisveltiosi.tms.api.constants.url.URLConstants;
 import com.synechisveltiosi.tms.api.request.TimesheetRequest;
 import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
 import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
 import com.synechisveltiosi.tms.repository.EmployeeRepository;
 import com.synechisveltiosi.tms.service.TimesheetService;
@@ -27,8 +29,14 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -41,6 +49,7 @@ class TimesheetControllerTest {
     private static final String ERROR_TITLE = "Timesheet Validation Failed";
     private static final String ERROR_START_DATE = "Start date cannot be after end date";
     private static final String ERROR_EMPTY_ENTRIES = "Timesheet must contain at least one entry";
+    private static final String ERROR_NO_TASK = "Task ID cannot be null";
     private static final String ERROR_METHOD = "POST";
     public static final String TITLE = "title";
     public static final String DETAIL = "detail";
@@ -74,7 +83,7 @@ class TimesheetControllerTest {
     // Test Cases - Successful Scenarios
     @Test
     void shouldCreateDraftTimesheet_WhenValidEmployeeAndData() {
-        Employee testEmployee = getEmployeeOrElseThrow();
+        Employee testEmployee = createEmployee();
 
         createValidTimesheetRequest(testEmployee.getId())
                 .then()
@@ -84,7 +93,7 @@ class TimesheetControllerTest {
 
     @Test
     void shouldRetrieveTimesheets_WhenValidEmployee() {
-        Employee testEmployee = getEmployeeOrElseThrow();
+        Employee testEmployee = createEmployee();
         createTestTimesheet(testEmployee);
 
         getEmployeeTimesheetsRequest(testEmployee.getId())
@@ -95,6 +104,22 @@ class TimesheetControllerTest {
     }
 
 
+    @Test
+    void shouldAcceptGeneration_AndReportItsStatus() {
+        String jobId = generateTimesheetsRequest(LocalDate.now().minusDays(14), LocalDate.now().minusDays(8))
+                .then()
+                .statusCode(HttpStatus.ACCEPTED.value())
+                .header("Location", notNullValue())
+                .body("id", notNullValue())
+                .extract().path("id");
+
+        getGenerationStatusRequest(UUID.fromString(jobId))
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("total", greaterThanOrEqualTo(1))
+                .body("status", notNullValue());
+    }
+
     // Test Cases - Error Scenarios
     @Test
     void shouldReturnNotFound_WhenEmployeeDoesNotExist() {
@@ -123,6 +148,22 @@ class TimesheetControllerTest {
                         METHOD, equalTo(ERROR_METHOD));
     }
 
+    @Test
+    void shouldReturnBadRequest_WhenEntryHasNoTask() {
+        Employee testEmployee = createEmployee();
+        LocalDate today = LocalDate.now();
+        TimesheetRequest request = new TimesheetRequest(today, today.plusDays(7),
+                List.of(new TimesheetRequest.TimesheetEntryRequest(null, null, TimesheetEntryType.BILLABLE, today, 8)));
+
+        createTimesheetRequest(testEmployee.getId(), request)
+                .then()
+                .spec(responseSpec.getErrorResponseSpec())
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body(TITLE, equalTo(ERROR_TITLE),
+                        DETAIL, equalTo(ERROR_NO_TASK),
+                        METHOD, equalTo(ERROR_METHOD));
+    }
+
     @Test
     void shouldReturnBadRequest_WhenEmptyEntries() {
         Employee testEmployee = getEmployeeOrElseThrow();
@@ -138,15 +179,59 @@ class TimesheetControllerTest {
 
     @Test
     void shouldApproveTimesheet_WhenValidTimesheetAndApprover() {
-        Employee testEmployee = getEmployeeOrElseThrow();
+        Employee testEmployee = createEmployee();
         Employee approver = getEmployeeOrElseThrow();
-        TimesheetDto timesheet = createTestTimesheet(testEmployee);
+        TimesheetDto timesheet = createSubmittedTestTimesheet(testEmployee);
         TimesheetApprovalRequest approvalRequest = DataUtils.createTestApprovalRequest();
 
         getEmployeeTimesheetApprovalRequest(timesheet.id(), approver.getId(), approvalRequest)
                 .then()
                 .statusCode(HttpStatus.OK.value())
-                .body("id", notNullValue());
+                .body("id", notNullValue(),
+                        "status", equalTo(TimesheetStatus.APPROVED.name()));
+    }
+
+    @Test
+    void shouldRefuseDecision_WhenTimesheetIsNotSubmitted() {
+        Employee testEmployee = createEmployee();
+        TimesheetDto timesheet = createTestTimesheet(testEmployee);
+
+        getEmployeeTimesheetApprovalRequest(timesheet.id(), testEmployee.getId(), DataUtils.createTestApprovalRequest())
+                .then()
+                .statusCode(HttpStatus.UNPROCESSABLE_ENTITY.value());
+    }
+
+    @Test
+    void shouldApplyOnlyOneDecision_WhenApproversRace() {
+        List<Employee> employees = employeeRepository.findAll();
+        TimesheetDto timesheet = createSubmittedTestTimesheet(createEmployee());
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> decisions = Stream.of(TimesheetStatus.APPROVED, TimesheetStatus.REJECTED)
+                .map(status -> CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return getEmployeeTimesheetApprovalRequest(timesheet.id(), employees.get(1).getId(),
+                            new TimesheetApprovalRequest("", status)).statusCode();
+                }))
+                .toList();
+        start.countDown();
+
+        List<Integer> statusCodes = decisions.stream().map(CompletableFuture::join).sorted().toList();
+
+        assertThat(statusCodes.get(0), equalTo(HttpStatus.OK.value()));
+        assertThat(statusCodes.get(1), anyOf(equalTo(HttpStatus.CONFLICT.value()),
+                equalTo(HttpStatus.UNPROCESSABLE_ENTITY.value())));
+    }
+
+    @Test
+    void shouldRefuseRedraft_WhenTimesheetIsApproved() {
+        Employee testEmployee = createEmployee();
+        TimesheetDto timesheet = createSubmittedTestTimesheet(testEmployee);
+        getEmployeeTimesheetApprovalRequest(timesheet.id(), getEmployeeOrElseThrow().getId(),
+                DataUtils.createTestApprovalRequest());
+
+        createValidTimesheetRequest(testEmployee.getId())
+                .then()
+                .statusCode(HttpStatus.UNPROCESSABLE_ENTITY.value());
     }
 
     @Test
@@ -161,7 +246,7 @@ class TimesheetControllerTest {
 
     @Test
     void shouldReturnNotFound_WhenApproverDoesNotExist() {
-        Employee testEmployee = getEmployeeOrElseThrow();
+        Employee testEmployee = createEmployee();
         TimesheetDto timesheet = createTestTimesheet(testEmployee);
         TimesheetApprovalRequest approvalRequest = DataUtils.createTestApprovalRequest();
 
@@ -170,6 +255,23 @@ class TimesheetControllerTest {
                 .statusCode(HttpStatus.NOT_FOUND.value());
     }
 
+    @Test
+    void shouldDecideSubmittedTimesheets_AndReportTheRest() {
+        List<Employee> employees = employeeRepository.findAll();
+        TimesheetDto submitted = timesheetService.draftOrSubmitTimesheet(createEmployee().getId(),
+                TimesheetStatus.SUBMITTED, DataUtils.createTestTimesheetRequest());
+        UUID missing = UUID.randomUUID();
+        TimesheetBulkApprovalRequest request = new TimesheetBulkApprovalRequest(
+                List.of(submitted.id(), missing), TimesheetStatus.APPROVED, "Looks good");
+
+        bulkApprovalRequest(employees.get(1).getId(), request)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("updated", equalTo(1),
+                        "outcomes[0].outcome", equalTo("UPDATED"),
+                        "outcomes[1].outcome", equalTo("NOT_FOUND"));
+    }
+
     // Helper Methods
     private void initializeRestAssured() {
         RestAssured.port = serverPort;
@@ -190,6 +292,22 @@ class TimesheetControllerTest {
         );
     }
 
+    private TimesheetDto createSubmittedTestTimesheet(Employee employee) {
+        return timesheetService.draftOrSubmitTimesheet(
+                employee.getId(),
+                TimesheetStatus.SUBMITTED,
+                DataUtils.createTestTimesheetRequest()
+        );
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private Response createTimesheetRequest(UUID employeeId, TimesheetRequest requestBody) {
         return RestAssured
                 .given()
@@ -216,6 +334,33 @@ class TimesheetControllerTest {
                 .post(URLConstants.TimesheetEndpoint.BY_TMS_ID_EMP_ID, timesheetId, empApproverId);
     }
 
+    private Response bulkApprovalRequest(UUID empApproverId, TimesheetBulkApprovalRequest requestBody) {
+        return RestAssured
+                .given()
+                .spec(requestSpec.getBasicRequestSpec())
+                .body(requestBody)
+                .when()
+                .post(URLConstants.TimesheetEndpoint.BULK_APPROVE_BY_EMP_ID, empApproverId);
+    }
+
+    private Response generateTimesheetsRequest(LocalDate startDate, LocalDate endDate) {
+        return RestAssured
+                .given()
+                .spec(requestSpec.getBasicRequestSpec())
+                .queryParam("startDate", startDate.toString())
+                .queryParam("endDate", endDate.toString())
+                .when()
+                .post(URLConstants.TimesheetEndpoint.GENERATE);
+    }
+
+    private Response getGenerationStatusRequest(UUID jobId) {
+        return RestAssured
+                .given()
+                .spec(requestSpec.getBasicRequestSpec())
+                .when()
+                .get(URLConstants.TimesheetEndpoint.GENERATE_BY_JOB_ID, jobId);
+    }
+
     private Response createValidTimesheetRequest(UUID employeeId) {
         return createTimesheetRequest(employeeId, DataUtils.createTestTimesheetRequest());
     }
@@ -228,6 +373,13 @@ class TimesheetControllerTest {
         return createTimesheetRequest(employeeId, DataUtils.createInvalidEntryTimesheetRequest());
     }
 
+    private Employee createEmployee() {
+        return employeeRepository.save(Employee.builder()
+                .personDetails(DataUtils.createTestPersonDetails())
+                .manager(getEmployeeOrElseThrow())
+                .build());
+    }
+
     private Employee getEmployeeOrElseThrow() {
         return employeeRepository.findAll()
                 .stream()
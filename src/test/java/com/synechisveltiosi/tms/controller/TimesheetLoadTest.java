@@ -0,0 +1,257 @@
+package com.synechisveltiosi.tms.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synechisveltiosi.tms.api.constants.url.URLConstants;
+import com.synechisveltiosi.tms.api.request.TimesheetApprovalRequest;
+import com.synechisveltiosi.tms.api.request.TimesheetRequest;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.service.UtilizationCubeService;
+import com.synechisveltiosi.tms.util.LoadTestDataset;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the timesheet endpoints over HTTP with a concurrent mix of clients against a seeded
+ * {@link LoadTestDataset}, and logs the p50/p99 latency and throughput of each endpoint. Every request of the mix
+ * must succeed. The dataset size and the load are read from system properties, e.g.
+ * {@code -Dtms.load.employees=5000 -Dtms.load.weeks=52 -Dtms.load.clients=32}; the defaults keep the run short.
+ * Tagged {@code load}, so it is left out of the default build and run with {@code ./mvnw test -Pload}. The
+ * utilization cube is rebuilt after seeding, so every write of the mix starts from derived state that matches the
+ * seeded timesheets.
+ * <p>
+ * Each client drafts the next week only for its own share of the employees, and every submitted timesheet is
+ * decided once, so the mix exercises the write paths without clients racing each other.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@Slf4j
+class TimesheetLoadTest {
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final int CLIENTS = Integer.getInteger("tms.load.clients", 8);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("tms.load.requests-per-client", 250);
+    private static final int WARMUP_REQUESTS_PER_CLIENT = Integer.getInteger("tms.load.warmup-requests-per-client", 50);
+    private static final String BASE = URLConstants.TimesheetEndpoint.BASE;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    @LocalServerPort
+    private int serverPort;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UtilizationCubeService utilizationCubeService;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().executor(Executors.newCachedThreadPool()).build();
+
+    /**
+     * The endpoints of the mix with their weights.
+     */
+    private enum Endpoint {
+        TIMESHEETS_BY_EMPLOYEE(10),
+        HISTORY_BY_EMPLOYEE(25),
+        TIMESHEET_BY_ID(25),
+        APPROVAL_INBOX(15),
+        DRAFT_TIMESHEET(15),
+        APPROVE_TIMESHEET(10);
+
+        private final int weight;
+
+        Endpoint(int weight) {
+            this.weight = weight;
+        }
+
+        static Endpoint pick(Random random) {
+            int total = Arrays.stream(values()).mapToInt(endpoint -> endpoint.weight).sum();
+            int ticket = random.nextInt(total);
+            for (Endpoint endpoint : values()) {
+                ticket -= endpoint.weight;
+                if (ticket < 0) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+
+    @Test
+    void endpointMixShouldSucceedUnderConcurrentLoad() throws Exception {
+        LoadTestDataset dataset = LoadTestDataset.fromSystemProperties(200, 26, 3);
+        long seeding = System.nanoTime();
+        LoadTestDataset.Seeded seeded = dataset.seed(jdbcTemplate);
+        utilizationCubeService.rebuild();
+        log.info("Seeded {} employees with {} weeks of history and {} tasks each in {} ms", dataset.employees(),
+                dataset.weeks(), dataset.tasksPerEmployee(), (System.nanoTime() - seeding) / 1_000_000);
+
+        Queue<UUID> awaitingDecision = new ConcurrentLinkedQueue<>(seeded.submitted());
+        List<UUID> timesheetIds = seeded.submitted();
+        Map<Endpoint, Queue<Long>> latencies = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> failures = new ConcurrentSkipListMap<>();
+
+        run(dataset, seeded, awaitingDecision, timesheetIds, WARMUP_REQUESTS_PER_CLIENT, null, failures);
+        long started = System.nanoTime();
+        run(dataset, seeded, awaitingDecision, timesheetIds, REQUESTS_PER_CLIENT, latencies, failures);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        report(latencies, elapsedSeconds);
+        assertTrue(failures.isEmpty(), "failed requests by endpoint and status: " + failures);
+    }
+
+    private void run(LoadTestDataset dataset, LoadTestDataset.Seeded seeded, Queue<UUID> awaitingDecision,
+                     List<UUID> timesheetIds, int requestsPerClient, Map<Endpoint, Queue<Long>> latencies,
+                     Map<String, AtomicInteger> failures) throws InterruptedException, ExecutionException {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int client = 0; client < CLIENTS; client++) {
+                int clientIndex = client;
+                Random random = new Random(dataset.seed() + client + (latencies == null ? 0 : CLIENTS));
+                running.add(clients.submit(() -> {
+                    for (int request = 0; request < requestsPerClient; request++) {
+                        Endpoint endpoint = Endpoint.pick(random);
+                        HttpRequest httpRequest = newRequest(endpoint, dataset, seeded, clientIndex, random,
+                                awaitingDecision, timesheetIds);
+                        if (httpRequest == null) {
+                            continue;
+                        }
+                        long requestStarted = System.nanoTime();
+                        int status = send(httpRequest);
+                        long micros = (System.nanoTime() - requestStarted) / 1000;
+                        if (latencies != null) {
+                            latencies.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>()).add(micros);
+                        }
+                        if (status >= 400) {
+                            failures.computeIfAbsent(endpoint + " " + status, key -> new AtomicInteger())
+                                    .incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private HttpRequest newRequest(Endpoint endpoint, LoadTestDataset dataset, LoadTestDataset.Seeded seeded,
+                                   int client, Random random, Queue<UUID> awaitingDecision, List<UUID> timesheetIds) {
+        List<UUID> reports = seeded.reports();
+        UUID employee = reports.get(random.nextInt(reports.size()));
+        return switch (endpoint) {
+            case TIMESHEETS_BY_EMPLOYEE -> get("/employee/" + employee);
+            case HISTORY_BY_EMPLOYEE -> get("/employee/" + employee + "/history?size=20");
+            case TIMESHEET_BY_ID -> get("/" + timesheetIds.get(random.nextInt(timesheetIds.size())));
+            case APPROVAL_INBOX -> get("/inbox/" + seeded.managers().get(random.nextInt(seeded.managers().size())));
+            case DRAFT_TIMESHEET -> {
+                UUID own = reports.get(ownReport(reports.size(), client, random));
+                yield post("/" + own + "/status/" + TimesheetStatus.DRAFTED, draft(dataset, seeded, random));
+            }
+            case APPROVE_TIMESHEET -> {
+                UUID timesheet = awaitingDecision.poll();
+                yield timesheet == null ? null : post("/" + timesheet + "/approve/" + seeded.director(),
+                        new TimesheetApprovalRequest("", TimesheetStatus.APPROVED));
+            }
+        };
+    }
+
+    private static int ownReport(int reports, int client, Random random) {
+        int share = (reports - client + CLIENTS - 1) / CLIENTS;
+        return share == 0 ? client % reports : client + CLIENTS * random.nextInt(share);
+    }
+
+    private static TimesheetRequest draft(LoadTestDataset dataset, LoadTestDataset.Seeded seeded, Random random) {
+        LocalDate startDate = dataset.nextWeek();
+        List<TimesheetRequest.TimesheetEntryRequest> entries = new ArrayList<>();
+        for (int day = 0; day < 5; day++) {
+            Long task = seeded.tasks().get(random.nextInt(seeded.tasks().size()));
+            entries.add(new TimesheetRequest.TimesheetEntryRequest(null, task, TimesheetEntryType.BILLABLE,
+                    startDate.plusDays(day), 1 + random.nextInt(8)));
+        }
+        return new TimesheetRequest(startDate, startDate.plusDays(6), entries);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Accept", MediaType.APPLICATION_JSON_VALUE)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Accept", MediaType.APPLICATION_JSON_VALUE)
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + serverPort + BASE + path);
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void report(Map<Endpoint, Queue<Long>> latencies, double elapsedSeconds) {
+        StringBuilder report = new StringBuilder(String.format("%n%-24s %8s %10s %10s %10s", "endpoint", "requests",
+                "p50 ms", "p99 ms", "req/s"));
+        for (Endpoint endpoint : Endpoint.values()) {
+            long[] micros = latencies.getOrDefault(endpoint, new ConcurrentLinkedQueue<>()).stream()
+                    .mapToLong(Long::longValue).sorted().toArray();
+            if (micros.length == 0) {
+                continue;
+            }
+            report.append(String.format("%n%-24s %8d %10.2f %10.2f %10.1f", endpoint, micros.length,
+                    micros[micros.length / 2] / 1000d,
+                    micros[Math.min(micros.length - 1, micros.length * 99 / 100)] / 1000d,
+                    micros.length / elapsedSeconds));
+        }
+        log.info("Load test with {} clients over {} s:{}", CLIENTS, String.format("%.1f", elapsedSeconds), report);
+    }
+}
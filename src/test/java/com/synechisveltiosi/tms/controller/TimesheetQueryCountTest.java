@@ -0,0 +1,156 @@
+package com.synechisveltiosi.tms.controller;
+
+import com.synechisveltiosi.tms.api.constants.url.URLConstants;
+import com.synechisveltiosi.tms.api.request.TimesheetRequest;
+import com.synechisveltiosi.tms.api.response.TimesheetDto;
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.entity.Timesheet;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.repository.EmployeeRepository;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import com.synechisveltiosi.tms.service.TimesheetService;
+import com.synechisveltiosi.tms.util.DataUtils;
+import com.synechisveltiosi.tms.util.RestRequestSpecification;
+import io.restassured.RestAssured;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards both employee history read paths against N+1 selects: the {@link Timesheet#HISTORY_GRAPH} entity graph of
+ * {@link TimesheetRepository#findByEmployeeId} and the projection queries behind the endpoint must each cost the
+ * same small number of statements whatever the number of weeks.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TimesheetQueryCountTest {
+    private static final String BASE_URI = "http://localhost/api/v1/timesheets";
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final long MAX_STATEMENTS = 3;
+
+    @LocalServerPort
+    private int serverPort;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TimesheetService timesheetService;
+
+    @Autowired
+    private TimesheetRepository timesheetRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    private final RestRequestSpecification requestSpec = new RestRequestSpecification();
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = serverPort;
+        RestAssured.baseURI = BASE_URI;
+    }
+
+    @Test
+    void shouldLoadEmployeeHistoryEntities_InConstantNumberOfStatements() {
+        Employee shortHistory = createEmployee();
+        Employee longHistory = createEmployee();
+        createWeeks(shortHistory, 2);
+        createWeeks(longHistory, 8);
+
+        long shortHistoryStatements = countStatementsForEntitiesOf(shortHistory, 2);
+        long longHistoryStatements = countStatementsForEntitiesOf(longHistory, 8);
+
+        assertTrue(shortHistoryStatements <= MAX_STATEMENTS, "statements: " + shortHistoryStatements);
+        assertEquals(shortHistoryStatements, longHistoryStatements);
+    }
+
+    @Test
+    void shouldServeEmployeeHistory_InConstantNumberOfStatements() {
+        Employee shortHistory = createEmployee();
+        Employee longHistory = createEmployee();
+        createWeeks(shortHistory, 2);
+        createWeeks(longHistory, 8);
+
+        long shortHistoryStatements = countStatementsForHistoryOf(shortHistory, 2);
+        long longHistoryStatements = countStatementsForHistoryOf(longHistory, 8);
+
+        assertTrue(shortHistoryStatements <= MAX_STATEMENTS, "statements: " + shortHistoryStatements);
+        assertEquals(shortHistoryStatements, longHistoryStatements);
+    }
+
+    private long countStatementsForEntitiesOf(Employee employee, int weeks) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<TimesheetDto> timesheets = transactionTemplate.execute(status -> timesheetRepository
+                .findByEmployeeId(employee.getId()).orElseThrow().stream().map(TimesheetDto::new).toList());
+        assertEquals(weeks, timesheets.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countStatementsForHistoryOf(Employee employee, int weeks) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        RestAssured
+                .given()
+                .spec(requestSpec.getBasicRequestSpec())
+                .when()
+                .get(URLConstants.TimesheetEndpoint.BY_EMP_ID, employee.getId())
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("$", hasSize(weeks));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Employee createEmployee() {
+        return employeeRepository.save(Employee.builder()
+                .personDetails(DataUtils.createTestPersonDetails())
+                .manager(employeeRepository.findAll().stream().findAny().orElseThrow())
+                .build());
+    }
+
+    private void createWeeks(Employee employee, int weeks) {
+        LocalDate monday = LocalDate.of(2020, 1, 6);
+        for (int week = 0; week < weeks; week++) {
+            LocalDate startDate = monday.plusWeeks(week);
+            timesheetService.draftOrSubmitTimesheet(employee.getId(), TimesheetStatus.DRAFTED, new TimesheetRequest(
+                    startDate,
+                    startDate.plusDays(6),
+                    List.of(
+                            new TimesheetRequest.TimesheetEntryRequest(null, 1L, TimesheetEntryType.BILLABLE, startDate, 8),
+                            new TimesheetRequest.TimesheetEntryRequest(null, 2L, TimesheetEntryType.BILLABLE, startDate.plusDays(1), 8))));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.repository.EmployeeRepository;
+import com.synechisveltiosi.tms.util.DataUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the closure table maintained by the database triggers matches the manager chains after inserts,
+ * moves and removals, and that cycles are rejected.
+ */
+@SpringBootTest
+@Testcontainers
+class EmployeeHierarchyTest {
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final String RECURSIVE_CLOSURE = "WITH RECURSIVE chain (ancestor_id, descendant_id, depth) AS (" +
+            "SELECT id, id, 0 FROM employee UNION ALL " +
+            "SELECT em.manager_id, chain.descendant_id, chain.depth + 1 FROM chain " +
+            "JOIN employee_manager em ON em.employee_id = chain.ancestor_id) " +
+            "SELECT ancestor_id, descendant_id, depth FROM chain";
+    private static final String CLOSURE = "SELECT ancestor_id, descendant_id, depth FROM employee_hierarchy";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private EmployeeHierarchyService employeeHierarchyService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldMatchManagerChainsOfLoadedData() {
+        assertEquals(rows(RECURSIVE_CLOSURE), rows(CLOSURE));
+    }
+
+    @Test
+    void shouldFollowManagerChanges() {
+        Employee vp = createEmployee(null);
+        Employee director = createEmployee(vp);
+        Employee lead = createEmployee(director);
+        Employee engineer = createEmployee(lead);
+        Employee otherVp = createEmployee(null);
+
+        assertEquals(List.of(director.getId(), lead.getId(), engineer.getId()), employeeHierarchyService.getReportIds(vp.getId(), false));
+        assertTrue(employeeHierarchyService.isAbove(vp.getId(), engineer.getId()));
+
+        lead.setManager(otherVp);
+        employeeRepository.save(lead);
+
+        assertEquals(Set.of(lead.getId(), engineer.getId()), Set.copyOf(employeeHierarchyService.getReportIds(otherVp.getId(), false)));
+        assertEquals(List.of(director.getId()), employeeHierarchyService.getReportIds(vp.getId(), false));
+        assertEquals(List.of(lead.getId(), otherVp.getId()), employeeHierarchyService.getManagerChain(engineer.getId()));
+
+        lead.setManager(null);
+        employeeRepository.save(lead);
+
+        assertFalse(employeeHierarchyService.isAbove(otherVp.getId(), engineer.getId()));
+        assertEquals(1, employeeHierarchyService.countReports(lead.getId(), true));
+        assertEquals(rows(RECURSIVE_CLOSURE), rows(CLOSURE));
+    }
+
+    @Test
+    void shouldRejectReportingToOwnSubordinate() {
+        Employee manager = createEmployee(null);
+        Employee report = createEmployee(manager);
+        manager.setManager(report);
+
+        assertThrows(DataAccessException.class, () -> employeeRepository.save(manager));
+    }
+
+    private Employee createEmployee(Employee manager) {
+        return employeeRepository.save(Employee.builder()
+                .personDetails(DataUtils.createTestPersonDetails())
+                .manager(manager)
+                .build());
+    }
+
+    private Set<Map<String, Object>> rows(String sql) {
+        return Set.copyOf(jdbcTemplate.queryForList(sql));
+    }
+}
@@ -0,0 +1,59 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.entity.Holiday;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayCalendarTest {
+    private final LocalDate newYear = LocalDate.of(2025, 1, 1);
+    private final LocalDate statehood = LocalDate.of(2025, 11, 1);
+    private final LocalDate lastDayOfLeapYear = LocalDate.of(2024, 12, 31);
+
+    private final HolidayCalendar calendar = HolidayCalendar.of(List.of(
+            holiday(newYear, null, null),
+            holiday(statehood, "IN", "KA"),
+            holiday(lastDayOfLeapYear, "IN", null)));
+
+    @Test
+    @DisplayName("Should apply global and country holidays to every state of the country")
+    void shouldApplyEnclosingRegionHolidays() {
+        HolidayCalendar.RegionCalendar karnataka = calendar.forRegion("IN", "KA");
+        HolidayCalendar.RegionCalendar kerala = calendar.forRegion("IN", "KL");
+
+        assertTrue(karnataka.isHoliday(newYear));
+        assertTrue(karnataka.isHoliday(statehood));
+        assertTrue(karnataka.isHoliday(lastDayOfLeapYear));
+        assertTrue(kerala.isHoliday(lastDayOfLeapYear));
+        assertFalse(kerala.isHoliday(statehood));
+        assertTrue(calendar.forRegion("US", null).isHoliday(newYear));
+        assertFalse(calendar.forRegion("US", null).isHoliday(lastDayOfLeapYear));
+    }
+
+    @Test
+    @DisplayName("Should treat weekends, holidays and dates outside the calendar consistently")
+    void shouldAnswerWorkingDayLookups() {
+        HolidayCalendar.RegionCalendar karnataka = calendar.forRegion("in", " ka ");
+
+        assertFalse(karnataka.isWorkingDay(newYear));
+        assertFalse(karnataka.isWorkingDay(LocalDate.of(2025, 1, 4)));
+        assertTrue(karnataka.isWorkingDay(LocalDate.of(2025, 1, 2)));
+        assertFalse(karnataka.isHoliday(LocalDate.of(2030, 1, 1)));
+        assertFalse(karnataka.isHoliday(LocalDate.of(1999, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("Should store a region in a few hundred bytes")
+    void shouldStoreRegionCompactly() {
+        assertEquals(2 * 6 * Long.BYTES, calendar.forRegion("IN", "KA").sizeInBytes());
+        assertEquals(0, HolidayCalendar.EMPTY.forRegion("IN", "KA").sizeInBytes());
+    }
+
+    private Holiday holiday(LocalDate date, String country, String state) {
+        return Holiday.builder().name("Holiday").date(date).country(country).state(state).build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetUpdateException;
+import com.synechisveltiosi.tms.api.request.TimesheetApprovalRequest;
+import com.synechisveltiosi.tms.api.request.TimesheetBulkApprovalRequest;
+import com.synechisveltiosi.tms.api.request.TimesheetRequest;
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.entity.Project;
+import com.synechisveltiosi.tms.model.entity.Task;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.WeeklyHours;
+import com.synechisveltiosi.tms.repository.EmployeeRepository;
+import com.synechisveltiosi.tms.repository.ProjectRepository;
+import com.synechisveltiosi.tms.repository.TaskRepository;
+import com.synechisveltiosi.tms.util.DataUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Drives timesheets through submit, resubmit, approve and bulk reject and checks that the project report read from
+ * the rollup matches what a scan of the entries would return at every step.
+ */
+@SpringBootTest
+@Testcontainers
+class HoursRollupTest {
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final LocalDate MONDAY = LocalDate.of(2024, 1, 1);
+    private static final String SCRIPT = "db/hours-rollup.sql";
+    private static final String SEPARATOR = "@@";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    @Autowired
+    private TimesheetService timesheetService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private TimesheetApprovalService timesheetApprovalService;
+    @Autowired
+    private HoursRollupService hoursRollupService;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Project project;
+    private Task task;
+    private Employee manager;
+
+    @BeforeEach
+    void setUp() {
+        project = projectRepository.save(Project.builder().name("Rollup").build());
+        task = taskRepository.save(Task.builder().name("Build").project(project).build());
+        manager = createEmployee(null);
+    }
+
+    @Test
+    void shouldFollowSubmitRejectResubmitAndApprove() {
+        Employee employee = createEmployee(manager);
+        UUID timesheetId = submit(employee, TimesheetStatus.SUBMITTED,
+                entry(TimesheetEntryType.BILLABLE, MONDAY, 8),
+                entry(TimesheetEntryType.BILLABLE, MONDAY.plusDays(1), 8),
+                entry(TimesheetEntryType.NON_BILLABLE, MONDAY.plusDays(2), 4));
+        assertEquals(List.of(
+                new WeeklyHours(MONDAY, TimesheetEntryType.BILLABLE, 16, 0),
+                new WeeklyHours(MONDAY, TimesheetEntryType.NON_BILLABLE, 4, 0)), report());
+        assertThrows(TimesheetUpdateException.class, () -> submit(employee, TimesheetStatus.SUBMITTED,
+                entry(TimesheetEntryType.BILLABLE, MONDAY, 6)));
+
+        timesheetService.approveTimesheet(timesheetId, manager.getId(),
+                new TimesheetApprovalRequest("Wrong hours", TimesheetStatus.REJECTED));
+        submit(employee, TimesheetStatus.DRAFTED, entry(TimesheetEntryType.BILLABLE, MONDAY, 6));
+        submit(employee, TimesheetStatus.SUBMITTED, entry(TimesheetEntryType.BILLABLE, MONDAY, 6));
+        assertEquals(List.of(
+                new WeeklyHours(MONDAY, TimesheetEntryType.BILLABLE, 6, 0),
+                new WeeklyHours(MONDAY, TimesheetEntryType.NON_BILLABLE, 0, 0)), report());
+
+        timesheetService.approveTimesheet(timesheetId, manager.getId(),
+                new TimesheetApprovalRequest("", TimesheetStatus.APPROVED));
+        assertEquals(new WeeklyHours(MONDAY, TimesheetEntryType.BILLABLE, 6, 6), report().getFirst());
+    }
+
+    @Test
+    void shouldIgnoreDraftsAndRetractRejectedTimesheets() {
+        submit(createEmployee(manager), TimesheetStatus.DRAFTED, entry(TimesheetEntryType.BILLABLE, MONDAY, 8));
+        assertEquals(List.of(), report());
+
+        UUID first = submit(createEmployee(manager), TimesheetStatus.SUBMITTED, entry(TimesheetEntryType.BILLABLE, MONDAY, 8));
+        UUID second = submit(createEmployee(manager), TimesheetStatus.SUBMITTED, entry(TimesheetEntryType.BILLABLE, MONDAY, 8));
+        timesheetApprovalService.decideTimesheets(manager.getId(),
+                new TimesheetBulkApprovalRequest(List.of(first), TimesheetStatus.REJECTED, "Wrong project"));
+        timesheetApprovalService.decideTimesheets(manager.getId(),
+                new TimesheetBulkApprovalRequest(List.of(second), TimesheetStatus.APPROVED, null));
+
+        assertEquals(List.of(new WeeklyHours(MONDAY, TimesheetEntryType.BILLABLE, 8, 8)), report());
+    }
+
+    @Test
+    void shouldBackfillReportedTimesheetsOnceIntoAnEmptyRollup() {
+        submit(createEmployee(manager), TimesheetStatus.DRAFTED, entry(TimesheetEntryType.BILLABLE, MONDAY, 8));
+        submit(createEmployee(manager), TimesheetStatus.SUBMITTED, entry(TimesheetEntryType.BILLABLE, MONDAY, 8));
+        UUID approved = submit(createEmployee(manager), TimesheetStatus.SUBMITTED,
+                entry(TimesheetEntryType.BILLABLE, MONDAY, 4),
+                entry(TimesheetEntryType.OVERTIME, MONDAY, 2));
+        timesheetService.approveTimesheet(approved, manager.getId(),
+                new TimesheetApprovalRequest("", TimesheetStatus.APPROVED));
+        List<WeeklyHours> maintained = report();
+
+        jdbcTemplate.update("DELETE FROM hours_rollup");
+        runScript();
+        assertEquals(maintained, report());
+
+        runScript();
+        assertEquals(List.of(
+                new WeeklyHours(MONDAY, TimesheetEntryType.BILLABLE, 12, 4),
+                new WeeklyHours(MONDAY, TimesheetEntryType.OVERTIME, 2, 2)), report());
+    }
+
+    private void runScript() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(SCRIPT));
+        populator.setSeparator(SEPARATOR);
+        populator.execute(dataSource);
+    }
+
+    private List<WeeklyHours> report() {
+        return hoursRollupService.getProjectWeeklyHours(project.getId(), MONDAY, MONDAY.plusDays(6));
+    }
+
+    private UUID submit(Employee employee, TimesheetStatus status, TimesheetRequest.TimesheetEntryRequest... entries) {
+        return timesheetService.draftOrSubmitTimesheet(employee.getId(), status,
+                new TimesheetRequest(MONDAY, MONDAY.plusDays(6), List.of(entries))).id();
+    }
+
+    private TimesheetRequest.TimesheetEntryRequest entry(TimesheetEntryType entryType, LocalDate date, double hours) {
+        return new TimesheetRequest.TimesheetEntryRequest(null, task.getId(), entryType, date, hours);
+    }
+
+    private Employee createEmployee(Employee manager) {
+        return employeeRepository.save(Employee.builder()
+                .personDetails(DataUtils.createTestPersonDetails())
+                .manager(manager)
+                .build());
+    }
+}
@@ -0,0 +1,175 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.request.TimesheetBulkApprovalRequest;
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationDto;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.id.TimeOrderedUuidGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Write throughput of the identifier strategies. The id strategies are compared side by side on scratch tables:
+ * identity ids fetched row by row against pooled sequence ids inserted in JDBC batches, and random against
+ * time-ordered UUID primary keys. Timesheet generation and bulk approval throughput are logged so they can be
+ * compared run over run. The throughput tests only log their results and are tagged {@code load}, so they run with
+ * {@code ./mvnw test -Pload} and not in the default build.
+ */
+@SpringBootTest
+@Testcontainers
+@Slf4j
+class IdentifierWriteBenchmarkTest {
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final int NUMERIC_ROWS = 20_000;
+    private static final int UUID_ROWS = 500_000;
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int EMPLOYEES = 2000;
+    private static final int DECISION_BATCH_SIZE = 500;
+    private static final LocalDate WEEK_START = LocalDate.of(2030, 1, 7);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TimesheetService timesheetService;
+    @Autowired
+    private TimesheetApprovalService timesheetApprovalService;
+
+    @Test
+    @Tag("load")
+    void pooledSequenceAndIdentityInserts() {
+        jdbcTemplate.execute("CREATE TABLE benchmark_identity (id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                "payload text)");
+        jdbcTemplate.execute("CREATE TABLE benchmark_pooled (id bigint PRIMARY KEY, payload text)");
+        jdbcTemplate.execute("CREATE SEQUENCE benchmark_pooled_seq INCREMENT BY " + ALLOCATION_SIZE);
+
+        long started = System.nanoTime();
+        for (int row = 0; row < NUMERIC_ROWS; row++) {
+            jdbcTemplate.queryForObject("INSERT INTO benchmark_identity (payload) VALUES (?) RETURNING id", Long.class,
+                    "row " + row);
+        }
+        long identityMillis = (System.nanoTime() - started) / 1_000_000;
+
+        started = System.nanoTime();
+        for (int row = 0; row < NUMERIC_ROWS; row += ALLOCATION_SIZE) {
+            long low = jdbcTemplate.queryForObject("SELECT nextval('benchmark_pooled_seq')", Long.class);
+            List<Long> ids = LongStream.range(low, low + ALLOCATION_SIZE).boxed().toList();
+            jdbcTemplate.batchUpdate("INSERT INTO benchmark_pooled (id, payload) VALUES (?, ?)", ids, ALLOCATION_SIZE,
+                    (ps, id) -> {
+                        ps.setLong(1, id);
+                        ps.setString(2, "row " + id);
+                    });
+        }
+        long pooledMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("{} rows: identity {} rows/s, pooled sequence {} rows/s, pooled in {}% of the identity time",
+                NUMERIC_ROWS, rowsPerSecond(NUMERIC_ROWS, identityMillis), rowsPerSecond(NUMERIC_ROWS, pooledMillis),
+                identityMillis == 0 ? 100 : pooledMillis * 100 / identityMillis);
+
+        assertEquals(NUMERIC_ROWS, count("benchmark_identity"));
+        assertEquals(NUMERIC_ROWS, count("benchmark_pooled"));
+    }
+
+    @Test
+    @Tag("load")
+    void randomAndTimeOrderedUuidInserts() {
+        long randomMillis = insertUuids("benchmark_random_uuid", "gen_random_uuid()");
+        long timeOrderedMillis = insertUuids("benchmark_time_ordered_uuid", "uuid_time_ordered()");
+        log.info("{} rows: random UUID {} rows/s with a {} byte primary key, time-ordered UUID {} rows/s with a {} " +
+                        "byte primary key", UUID_ROWS,
+                rowsPerSecond(UUID_ROWS, randomMillis), primaryKeySize("benchmark_random_uuid"),
+                rowsPerSecond(UUID_ROWS, timeOrderedMillis), primaryKeySize("benchmark_time_ordered_uuid"));
+
+        assertEquals(UUID_ROWS, count("benchmark_time_ordered_uuid"));
+    }
+
+    @Test
+    void timeOrderedIdsShouldSortByCreationTime() throws InterruptedException {
+        UUID first = TimeOrderedUuidGenerator.next();
+        UUID database = jdbcTemplate.queryForObject("SELECT uuid_time_ordered()", UUID.class);
+        Thread.sleep(2);
+        UUID last = TimeOrderedUuidGenerator.next();
+
+        assertEquals(7, first.version());
+        assertEquals(7, database.version());
+        assertEquals(2, database.variant());
+        assertTrue(first.toString().compareTo(last.toString()) < 0);
+        assertTrue(jdbcTemplate.queryForObject("SELECT CAST(? AS uuid) < CAST(? AS uuid)", Boolean.class,
+                first, last));
+    }
+
+    @Test
+    @Tag("load")
+    void generationAndBulkApprovalThroughput() {
+        UUID managerId = createEmployees();
+
+        TimesheetGenerationDto generation = timesheetService.generateTimesheets(WEEK_START, WEEK_START.plusDays(6));
+        log.info("generation: {} timesheets created in {} ms, {} employees/s", generation.created(),
+                generation.elapsedMillis(), Math.round(generation.employeesPerSecond()));
+
+        List<UUID> timesheetIds = jdbcTemplate.queryForList("UPDATE timesheet SET status = 'SUBMITTED' " +
+                "WHERE start_date = ? RETURNING id", UUID.class, WEEK_START);
+        long started = System.nanoTime();
+        int updated = 0;
+        for (int start = 0; start < timesheetIds.size(); start += DECISION_BATCH_SIZE) {
+            updated += timesheetApprovalService.decideTimesheets(managerId, new TimesheetBulkApprovalRequest(
+                    timesheetIds.subList(start, Math.min(start + DECISION_BATCH_SIZE, timesheetIds.size())),
+                    TimesheetStatus.APPROVED, "")).updated();
+        }
+        long approvalMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("bulk approval: {} timesheets in {} ms, {} approvals/s", updated, approvalMillis,
+                rowsPerSecond(updated, approvalMillis));
+
+        assertTrue(generation.created() >= EMPLOYEES);
+        assertEquals(timesheetIds.size(), updated);
+    }
+
+    private long insertUuids(String table, String generator) {
+        jdbcTemplate.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, payload int)");
+        long started = System.nanoTime();
+        jdbcTemplate.update("INSERT INTO " + table + " (id, payload) SELECT " + generator + ", n " +
+                "FROM generate_series(1, ?) n", UUID_ROWS);
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+
+    private UUID createEmployees() {
+        UUID managerId = jdbcTemplate.queryForObject("INSERT INTO employee (id) VALUES (gen_random_uuid()) RETURNING id",
+                UUID.class);
+        jdbcTemplate.update("WITH e AS (INSERT INTO employee (id) SELECT gen_random_uuid() FROM generate_series(1, ?) " +
+                "RETURNING id) INSERT INTO employee_manager (employee_id, manager_id) SELECT id, ? FROM e",
+                EMPLOYEES, managerId);
+        return managerId;
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    }
+
+    private long primaryKeySize(String table) {
+        return jdbcTemplate.queryForObject("SELECT pg_relation_size(CAST(? AS regclass))", Long.class, table + "_pkey");
+    }
+
+    private static long rowsPerSecond(long rows, long millis) {
+        return millis == 0 ? rows : rows * 1000 / millis;
+    }
+}
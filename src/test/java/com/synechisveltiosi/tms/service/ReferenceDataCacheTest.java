@@ -0,0 +1,81 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.response.CacheRegionStatisticsDto;
+import com.synechisveltiosi.tms.model.entity.Task;
+import com.synechisveltiosi.tms.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs with the "cache" profile: repeated task lookups must be served from the second-level cache and a write
+ * through the application must evict the cached entry.
+ */
+@SpringBootTest
+@ActiveProfiles("cache")
+@Testcontainers
+class ReferenceDataCacheTest {
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final long TASK_ID = 1L;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setup() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics().clear();
+    }
+
+    @Test
+    void shouldServeRepeatedTaskLookupsFromCache() {
+        taskService.getTaskById(TASK_ID);
+        taskService.getTaskById(TASK_ID);
+        taskService.getTasksByIds(List.of(TASK_ID));
+
+        CacheRegionStatisticsDto statistics = taskRegion();
+        assertEquals(1, statistics.missCount());
+        assertEquals(2, statistics.hitCount());
+    }
+
+    @Test
+    void shouldEvictCachedTaskOnWrite() {
+        Task task = taskService.getTaskById(TASK_ID);
+        task.setName("Renamed task");
+        taskRepository.save(task);
+
+        assertEquals("Renamed task", taskService.getTaskById(TASK_ID).getName());
+    }
+
+    private CacheRegionStatisticsDto taskRegion() {
+        return cacheStatisticsService.getRegionStatistics().stream()
+                .filter(region -> region.region().equals(Task.CACHE_REGION))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,71 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.entity.Task;
+import com.synechisveltiosi.tms.model.entity.TimesheetEntry;
+import com.synechisveltiosi.tms.repository.TaskHoursRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskHoursServiceTest {
+    @Mock
+    private TaskHoursRepository taskHoursRepository;
+    @InjectMocks
+    private TaskHoursService taskHoursService;
+
+    private final Task design = Task.builder().id(1L).build();
+    private final Task build = Task.builder().id(2L).build();
+
+    @Test
+    @DisplayName("Should apply only the net change per task, in task id order")
+    void shouldApplyNetChangePerTaskInTaskIdOrder() {
+        // given
+        List<TimesheetEntry> removed = List.of(entry(build, 8), entry(design, 4));
+        List<TimesheetEntry> added = List.of(entry(build, 6), entry(design, 4), entry(build, 2), entry(null, 8));
+
+        // when
+        taskHoursService.recordReplacement(removed, added);
+
+        // then
+        verify(taskHoursRepository).addHours(2L, 0.0, 1L);
+        verify(taskHoursRepository, never()).addHours(eq(1L), anyDouble(), anyLong());
+        verifyNoMoreInteractions(taskHoursRepository);
+    }
+
+    @Test
+    @DisplayName("Should record new entries on first submit")
+    void shouldRecordNewEntriesOnFirstSubmit() {
+        // when
+        taskHoursService.recordReplacement(List.of(), List.of(entry(build, 8), entry(design, 3), entry(build, 8)));
+
+        // then
+        InOrder inOrder = inOrder(taskHoursRepository);
+        inOrder.verify(taskHoursRepository).addHours(1L, 3.0, 1L);
+        inOrder.verify(taskHoursRepository).addHours(2L, 16.0, 2L);
+    }
+
+    @Test
+    @DisplayName("Should report zero hours for a task without entries")
+    void shouldReportZeroHoursForTaskWithoutEntries() {
+        // given
+        when(taskHoursRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when / then
+        assertEquals(0, taskHoursService.getTaskHours(1L).getEntryCount());
+    }
+
+    private TimesheetEntry entry(Task task, double hours) {
+        return TimesheetEntry.builder().task(task).hours(hours).build();
+    }
+}
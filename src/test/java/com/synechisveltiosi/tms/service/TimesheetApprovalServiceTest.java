@@ -0,0 +1,93 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.api.request.TimesheetBulkApprovalRequest;
+import com.synechisveltiosi.tms.api.response.TimesheetBulkApprovalDto;
+import com.synechisveltiosi.tms.model.enums.TimesheetDecisionOutcome;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.TimesheetStatusRow;
+import com.synechisveltiosi.tms.repository.TimesheetApprovalRepository;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimesheetApprovalServiceTest {
+    @Mock
+    private TimesheetRepository timesheetRepository;
+    @Mock
+    private TimesheetApprovalRepository timesheetApprovalRepository;
+    @Mock
+    private EmployeeService employeeService;
+    @Mock
+    private HoursRollupService hoursRollupService;
+    @InjectMocks
+    private TimesheetApprovalService timesheetApprovalService;
+
+    private final UUID approverId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should update every awaiting timesheet set-wise and report the others")
+    void shouldUpdateAwaitingTimesheetsAndReportOthers() {
+        // given
+        UUID submitted = UUID.randomUUID();
+        UUID drafted = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        List<UUID> ids = List.of(submitted, drafted, missing);
+        when(timesheetRepository.updateStatuses(eq(ids), any(), eq("APPROVED"))).thenReturn(List.of(submitted));
+        when(timesheetRepository.findStatuses(List.of(drafted, missing)))
+                .thenReturn(List.of(new TimesheetStatusRow(drafted, TimesheetStatus.DRAFTED)));
+
+        // when
+        TimesheetBulkApprovalDto result = timesheetApprovalService.decideTimesheets(approverId,
+                new TimesheetBulkApprovalRequest(List.of(submitted, drafted, missing, submitted), TimesheetStatus.APPROVED, null));
+
+        // then
+        assertEquals(1, result.updated());
+        assertEquals(List.of(
+                new TimesheetBulkApprovalDto.Outcome(submitted, TimesheetDecisionOutcome.UPDATED, TimesheetStatus.APPROVED),
+                new TimesheetBulkApprovalDto.Outcome(drafted, TimesheetDecisionOutcome.NOT_AWAITING_DECISION, TimesheetStatus.DRAFTED),
+                new TimesheetBulkApprovalDto.Outcome(missing, TimesheetDecisionOutcome.NOT_FOUND, null)), result.outcomes());
+        verify(timesheetApprovalRepository, times(1)).insertApprovals(Set.of(submitted), approverId, "APPROVED", "");
+        verify(hoursRollupService).recordTransition(Set.of(submitted), TimesheetStatus.SUBMITTED, TimesheetStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("Should skip the status read when every timesheet was updated")
+    void shouldSkipStatusReadWhenEveryTimesheetWasUpdated() {
+        // given
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(timesheetRepository.updateStatuses(eq(ids), any(), eq("REJECTED"))).thenReturn(ids);
+
+        // when
+        TimesheetBulkApprovalDto result = timesheetApprovalService.decideTimesheets(approverId,
+                new TimesheetBulkApprovalRequest(ids, TimesheetStatus.REJECTED, "Missing hours"));
+
+        // then
+        assertEquals(2, result.updated());
+        verify(timesheetRepository, never()).findStatuses(any());
+        verify(timesheetApprovalRepository).insertApprovals(Set.copyOf(ids), approverId, "REJECTED", "Missing hours");
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when the decision is not approve or reject")
+    void shouldThrowValidationExceptionWhenDecisionIsInvalid() {
+        // when
+        assertThrows(TimesheetValidationException.class, () -> timesheetApprovalService.decideTimesheets(approverId,
+                new TimesheetBulkApprovalRequest(List.of(UUID.randomUUID()), TimesheetStatus.DRAFTED, null)));
+
+        // then
+        verifyNoInteractions(timesheetRepository, timesheetApprovalRepository);
+    }
+}
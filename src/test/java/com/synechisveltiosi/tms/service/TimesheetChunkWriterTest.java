@@ -0,0 +1,105 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.entity.Timesheet;
+import com.synechisveltiosi.tms.model.entity.TimesheetEntry;
+import com.synechisveltiosi.tms.model.enums.LeaveStatus;
+import com.synechisveltiosi.tms.model.enums.LeaveType;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.projection.EmployeeKey;
+import com.synechisveltiosi.tms.model.projection.LeaveInterval;
+import com.synechisveltiosi.tms.repository.LeaveRepository;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimesheetChunkWriterTest {
+    @Mock
+    private TimesheetRepository timesheetRepository;
+    @Mock
+    private LeaveRepository leaveRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    private TimesheetChunkWriter chunkWriter;
+    private final LocalDate startDate = LocalDate.of(2025, 1, 6);
+    private final LocalDate endDate = LocalDate.of(2025, 1, 12);
+
+    @BeforeEach
+    void setUp() {
+        chunkWriter = new TimesheetChunkWriter(timesheetRepository, leaveRepository);
+        ReflectionTestUtils.setField(chunkWriter, "entityManager", entityManager);
+    }
+
+    @Test
+    @DisplayName("Should skip employees that already have a timesheet for the period")
+    void shouldSkipEmployeesThatAlreadyHaveTimesheetForPeriod() {
+        // given
+        EmployeeKey existing = new EmployeeKey(UUID.randomUUID(), null);
+        EmployeeKey missing = new EmployeeKey(UUID.randomUUID(), null);
+        Employee employee = Employee.builder().id(missing.id()).build();
+        when(timesheetRepository.findEmployeeIdsWithTimesheet(List.of(existing.id(), missing.id()), startDate, endDate))
+                .thenReturn(Set.of(existing.id()));
+        when(entityManager.getReference(Employee.class, missing.id())).thenReturn(employee);
+
+        // when
+        int written = chunkWriter.write(List.of(existing, missing), TimesheetEntryTemplate.of(startDate, endDate));
+
+        // then
+        assertEquals(1, written);
+        ArgumentCaptor<Timesheet> captor = ArgumentCaptor.forClass(Timesheet.class);
+        verify(entityManager).persist(captor.capture());
+        assertSame(employee, captor.getValue().getEmployee());
+        assertEquals(7, captor.getValue().getEntries().size());
+        verify(entityManager, never()).getReference(Employee.class, existing.id());
+        verify(entityManager).flush();
+        verify(entityManager).clear();
+    }
+
+    @Test
+    @DisplayName("Should pre-fill approved leave on working days with one query per chunk")
+    void shouldPreFillApprovedLeaveOnWorkingDays() {
+        // given
+        EmployeeKey onLeave = new EmployeeKey(UUID.randomUUID(), null);
+        EmployeeKey working = new EmployeeKey(UUID.randomUUID(), null);
+        List<UUID> ids = List.of(onLeave.id(), working.id());
+        when(timesheetRepository.findEmployeeIdsWithTimesheet(ids, startDate, endDate)).thenReturn(Set.of());
+        when(leaveRepository.findLeaveIntervals(ids, LeaveStatus.APPROVED, startDate, endDate)).thenReturn(List.of(
+                new LeaveInterval(onLeave.id(), startDate.minusDays(3), startDate.plusDays(1), LeaveType.VACATION, 8),
+                new LeaveInterval(onLeave.id(), endDate.minusDays(2), endDate.plusDays(4), LeaveType.SICK_LEAVE, 4)));
+
+        // when
+        chunkWriter.write(List.of(onLeave, working), TimesheetEntryTemplate.of(startDate, endDate));
+
+        // then
+        ArgumentCaptor<Timesheet> captor = ArgumentCaptor.forClass(Timesheet.class);
+        verify(entityManager, times(2)).persist(captor.capture());
+        verify(leaveRepository, times(1)).findLeaveIntervals(any(), any(), any(), any());
+        List<TimesheetEntry> leaveEntries = captor.getAllValues().get(0).getEntries().stream()
+                .filter(entry -> entry.getEntryType() == TimesheetEntryType.LEAVE)
+                .toList();
+        assertEquals(List.of(startDate, startDate.plusDays(1), endDate.minusDays(2)),
+                leaveEntries.stream().map(TimesheetEntry::getDate).toList());
+        assertEquals(20, leaveEntries.stream().mapToDouble(TimesheetEntry::getHours).sum());
+        assertTrue(captor.getAllValues().get(1).getEntries().stream()
+                .noneMatch(entry -> entry.getEntryType() == TimesheetEntryType.LEAVE));
+    }
+}
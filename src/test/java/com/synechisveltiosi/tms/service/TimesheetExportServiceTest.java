@@ -0,0 +1,91 @@
+package com.synechisveltiosi.tms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.TimesheetEntryExportRow;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimesheetExportServiceTest {
+    @Mock
+    private TimesheetRepository timesheetRepository;
+
+    private TimesheetExportService exportService;
+    private final LocalDate from = LocalDate.of(2025, 1, 1);
+    private final LocalDate to = LocalDate.of(2025, 1, 31);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new TimesheetExportService(timesheetRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line for every streamed entry")
+    void shouldWriteOneJsonDocumentPerLine() {
+        // given
+        when(timesheetRepository.streamEntriesForExport(from, to)).thenReturn(Stream.of(createRow(from), createRow(to)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = exportService.exportEntries(from, to, out);
+
+        // then
+        String export = out.toString(StandardCharsets.UTF_8);
+        String[] lines = export.split("\n");
+        assertEquals(2, exported);
+        assertTrue(export.endsWith("}\n"));
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"date\":\"2025-01-01\""));
+        assertTrue(lines[1].contains("\"date\":\"2025-01-31\""));
+    }
+
+    @Test
+    @DisplayName("Should write nothing when no entry is dated within the range")
+    void shouldWriteNothingWithoutEntries() {
+        // given
+        when(timesheetRepository.streamEntriesForExport(from, to)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = exportService.exportEntries(from, to, out);
+
+        // then
+        assertEquals(0, exported);
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when the range is inverted")
+    void shouldThrowValidationExceptionWhenRangeIsInverted() {
+        assertThrows(TimesheetValidationException.class,
+                () -> exportService.exportEntries(to, from, new ByteArrayOutputStream()));
+        verifyNoInteractions(timesheetRepository);
+    }
+
+    private TimesheetEntryExportRow createRow(LocalDate date) {
+        return new TimesheetEntryExportRow(UUID.randomUUID(), UUID.randomUUID(), TimesheetStatus.APPROVED,
+                UUID.randomUUID(), 1L, date, TimesheetEntryType.BILLABLE, 8);
+    }
+}
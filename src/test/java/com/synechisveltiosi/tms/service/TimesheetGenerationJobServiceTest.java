@@ -0,0 +1,107 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetGenerationNotFoundException;
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationDto;
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationJobDto;
+import com.synechisveltiosi.tms.model.enums.TimesheetGenerationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimesheetGenerationJobServiceTest {
+    @Mock
+    private TimesheetGenerator timesheetGenerator;
+    @Mock
+    private EmployeeService employeeService;
+
+    private TimesheetGenerationJobService jobService;
+    private final LocalDate startDate = LocalDate.of(2025, 1, 6);
+    private final LocalDate endDate = LocalDate.of(2025, 1, 12);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        jobService = new TimesheetGenerationJobService(timesheetGenerator, employeeService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        jobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent requests for the same period into one run")
+    void shouldCoalesceConcurrentRequestsForSamePeriod() throws Exception {
+        // given
+        when(employeeService.countEmployees()).thenReturn(2L);
+        when(timesheetGenerator.generate(eq(startDate), eq(endDate), any())).thenAnswer(invocation -> {
+            invocation.<LongConsumer>getArgument(2).accept(2);
+            release.await(5, TimeUnit.SECONDS);
+            return new TimesheetGenerationDto(startDate, endDate, 2, 2, 1, List.of());
+        });
+
+        // when
+        TimesheetGenerationJobDto first = jobService.submit(startDate, endDate);
+        TimesheetGenerationJobDto second = jobService.submit(startDate, endDate);
+
+        // then
+        assertEquals(first.id(), second.id());
+        assertEquals(TimesheetGenerationStatus.RUNNING, second.status());
+        release.countDown();
+        TimesheetGenerationJobDto finished = awaitFinished(first.id());
+        assertEquals(TimesheetGenerationStatus.COMPLETED, finished.status());
+        assertEquals(2, finished.processed());
+        assertEquals(2, finished.total());
+        verify(timesheetGenerator, times(1)).generate(eq(startDate), eq(endDate), any());
+    }
+
+    @Test
+    @DisplayName("Should report failures of a finished run")
+    void shouldReportFailuresOfFinishedRun() throws Exception {
+        // given
+        when(timesheetGenerator.generate(eq(startDate), eq(endDate), any()))
+                .thenReturn(new TimesheetGenerationDto(startDate, endDate, 0, 0, 1, List.of("Partition 1/1: boom")));
+
+        // when
+        TimesheetGenerationJobDto job = jobService.submit(startDate, endDate);
+
+        // then
+        TimesheetGenerationJobDto finished = awaitFinished(job.id());
+        assertEquals(TimesheetGenerationStatus.FAILED, finished.status());
+        assertEquals(List.of("Partition 1/1: boom"), finished.failures());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException for an unknown run")
+    void shouldThrowNotFoundExceptionForUnknownRun() {
+        assertThrows(TimesheetGenerationNotFoundException.class, () -> jobService.getJob(UUID.randomUUID()));
+    }
+
+    private TimesheetGenerationJobDto awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        TimesheetGenerationJobDto job = jobService.getJob(jobId);
+        while (job.status() == TimesheetGenerationStatus.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            job = jobService.getJob(jobId);
+        }
+        return job;
+    }
+}
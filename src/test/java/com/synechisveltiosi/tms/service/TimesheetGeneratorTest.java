@@ -0,0 +1,189 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationDto;
+import com.synechisveltiosi.tms.config.TimesheetGenerationProperties;
+import com.synechisveltiosi.tms.model.entity.Holiday;
+import com.synechisveltiosi.tms.model.entity.TimesheetEntry;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.projection.EmployeeKey;
+import com.synechisveltiosi.tms.model.projection.EmployeeKeyRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimesheetGeneratorTest {
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private EmployeeService employeeService;
+    @Mock
+    private TimesheetChunkWriter chunkWriter;
+    @Mock
+    private HolidayCalendarService holidayCalendarService;
+
+    private TimesheetGenerator timesheetGenerator;
+    private final LocalDate startDate = LocalDate.of(2025, 1, 6);
+    private final LocalDate endDate = LocalDate.of(2025, 1, 12);
+
+    @BeforeEach
+    void setUp() {
+        timesheetGenerator = new TimesheetGenerator(employeeService, chunkWriter,
+                new TimesheetGenerationProperties(CHUNK_SIZE, 1, 1, 1, false), holidayCalendarService);
+        lenient().when(holidayCalendarService.getCalendar()).thenReturn(HolidayCalendar.EMPTY);
+    }
+
+    @Test
+    @DisplayName("Should not write anything when no employees exist")
+    void shouldNotWriteAnythingWhenNoEmployeesExist() {
+        // given
+        when(employeeService.getEmployeeKeys(EmployeeKeyRange.ALL, CHUNK_SIZE)).thenReturn(List.of());
+
+        // when
+        TimesheetGenerationDto result = timesheetGenerator.generate(startDate, endDate);
+
+        // then
+        assertEquals(0, result.processed());
+        verifyNoInteractions(chunkWriter);
+    }
+
+    @Test
+    @DisplayName("Should page employees by key and write each chunk")
+    void shouldPageEmployeesByKeyAndWriteEachChunk() {
+        // given
+        EmployeeKey first = new EmployeeKey(UUID.randomUUID(), null);
+        EmployeeKey second = new EmployeeKey(UUID.randomUUID(), null);
+        EmployeeKey third = new EmployeeKey(UUID.randomUUID(), null);
+        when(employeeService.getEmployeeKeys(EmployeeKeyRange.ALL, CHUNK_SIZE)).thenReturn(List.of(first, second));
+        when(employeeService.getEmployeeKeys(EmployeeKeyRange.ALL.resumeAfter(second.id()), CHUNK_SIZE))
+                .thenReturn(List.of(third));
+        when(chunkWriter.write(anyList(), any())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // when
+        TimesheetGenerationDto result = timesheetGenerator.generate(startDate, endDate);
+
+        // then
+        assertEquals(3, result.processed());
+        verify(chunkWriter).write(eq(List.of(first, second)), any());
+        verify(chunkWriter).write(eq(List.of(third)), any());
+        verify(employeeService, times(2)).getEmployeeKeys(any(), eq(CHUNK_SIZE));
+    }
+
+    @Test
+    @DisplayName("Should resume a failed partition after its last committed chunk")
+    void shouldResumeFailedPartitionAfterLastCommittedChunk() {
+        // given
+        EmployeeKey first = new EmployeeKey(UUID.randomUUID(), null);
+        EmployeeKey second = new EmployeeKey(UUID.randomUUID(), null);
+        EmployeeKey third = new EmployeeKey(UUID.randomUUID(), null);
+        EmployeeKeyRange resumed = EmployeeKeyRange.ALL.resumeAfter(second.id());
+        when(employeeService.getEmployeeKeys(EmployeeKeyRange.ALL, CHUNK_SIZE)).thenReturn(List.of(first, second));
+        when(employeeService.getEmployeeKeys(resumed, CHUNK_SIZE)).thenReturn(List.of(third));
+        when(chunkWriter.write(eq(List.of(first, second)), any())).thenReturn(2);
+        when(chunkWriter.write(eq(List.of(third)), any()))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(1);
+
+        // when
+        TimesheetGenerationDto result = timesheetGenerator.generate(startDate, endDate);
+
+        // then
+        assertEquals(3, result.processed());
+        assertFalse(result.failed());
+        verify(chunkWriter, times(1)).write(eq(List.of(first, second)), any());
+        verify(employeeService, times(2)).getEmployeeKeys(resumed, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should report a partition that keeps failing")
+    void shouldReportPartitionThatKeepsFailing() {
+        // given
+        when(employeeService.getEmployeeKeys(EmployeeKeyRange.ALL, CHUNK_SIZE))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        // when
+        TimesheetGenerationDto result = timesheetGenerator.generate(startDate, endDate);
+
+        // then
+        assertTrue(result.failed());
+        assertEquals(1, result.failures().size());
+        verify(employeeService, times(2)).getEmployeeKeys(EmployeeKeyRange.ALL, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should generate only the requested partition")
+    void shouldGenerateOnlyRequestedPartition() {
+        // given
+        EmployeeKeyRange range = EmployeeKeyRange.split(4).get(2);
+        EmployeeKey employee = new EmployeeKey(UUID.randomUUID(), null);
+        when(employeeService.getEmployeeKeys(range, CHUNK_SIZE)).thenReturn(List.of(employee));
+        when(chunkWriter.write(eq(List.of(employee)), any())).thenReturn(1);
+
+        // when
+        TimesheetGenerationDto result = timesheetGenerator.generatePartition(startDate, endDate, 2, 4);
+
+        // then
+        assertEquals(1, result.processed());
+        verify(employeeService).getEmployeeKeys(range, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should split the id space into contiguous partitions")
+    void shouldSplitIdSpaceIntoContiguousPartitions() {
+        // when
+        List<EmployeeKeyRange> ranges = EmployeeKeyRange.split(4);
+
+        // then
+        assertEquals(4, ranges.size());
+        assertEquals(EmployeeKeyRange.MIN_ID, ranges.get(0).after());
+        assertEquals(EmployeeKeyRange.MAX_ID, ranges.get(3).upTo());
+        for (int i = 1; i < ranges.size(); i++) {
+            assertEquals(ranges.get(i - 1).upTo(), ranges.get(i).after());
+        }
+        assertEquals(new UUID(0x3fffffffffffffffL, -1L), ranges.get(0).upTo());
+    }
+
+    @Test
+    @DisplayName("Should build one entry per day and disable weekends")
+    void shouldBuildOneEntryPerDayAndDisableWeekends() {
+        // when
+        TimesheetEntryTemplate template = TimesheetEntryTemplate.of(startDate, endDate);
+
+        // then
+        assertEquals(7, template.days().size());
+        assertEquals(2, template.days().stream().filter(TimesheetEntryTemplate.Day::disable).count());
+        assertEquals(7, template.newEntries(null, null).size());
+    }
+
+    @Test
+    @DisplayName("Should mark the holidays of the employee's region")
+    void shouldMarkHolidaysOfEmployeesRegion() {
+        // given
+        HolidayCalendar calendar = HolidayCalendar.of(List.of(
+                Holiday.builder().date(startDate).country("IN").build(),
+                Holiday.builder().date(startDate.plusDays(1)).country("IN").state("KA").build()));
+        TimesheetEntryTemplate template = TimesheetEntryTemplate.of(startDate, endDate, calendar);
+
+        // when
+        List<TimesheetEntry> karnataka = template.newEntries("in", "ka");
+        List<TimesheetEntry> unitedStates = template.newEntries("US", "CA");
+
+        // then
+        assertEquals(2, karnataka.stream().filter(entry -> entry.getEntryType() == TimesheetEntryType.HOLIDAY).count());
+        assertEquals(4, karnataka.stream().filter(TimesheetEntry::isDisable).count());
+        assertTrue(unitedStates.stream().noneMatch(entry -> entry.getEntryType() == TimesheetEntryType.HOLIDAY));
+    }
+}
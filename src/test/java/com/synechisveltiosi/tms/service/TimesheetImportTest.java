@@ -0,0 +1,133 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.api.response.TimesheetImportDto;
+import com.synechisveltiosi.tms.model.enums.TimesheetImportRejection;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Imports a file of a hundred thousand valid rows mixed with one row per rejection reason, checks the reported
+ * outcome against the tables it feeds, and logs the throughput.
+ */
+@SpringBootTest
+@Testcontainers
+@Slf4j
+class TimesheetImportTest {
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final String HEADER = "employee_id,task_id,date,entry_type,hours\n";
+    private static final LocalDate FROM = LocalDate.of(2023, 1, 2);
+    private static final LocalDate TO = LocalDate.of(2023, 12, 31);
+    private static final int VALID_ROWS = 100_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    @Autowired
+    private TimesheetImportService timesheetImportService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldImportValidRowsAndReportTheRest() {
+        List<UUID> employees = jdbcTemplate.queryForList("SELECT id FROM employee ORDER BY id", UUID.class);
+        long taskId = jdbcTemplate.queryForObject("SELECT min(id) FROM task", Long.class);
+        UUID locked = employees.getFirst();
+        jdbcTemplate.update("INSERT INTO timesheet (id, status, start_date, end_date, employee_id) " +
+                "VALUES (gen_random_uuid(), 'APPROVED', DATE '2023-06-05', DATE '2023-06-11', ?)", locked);
+
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int row = 0; row < VALID_ROWS; row++) {
+            UUID employee = employees.get(row % (employees.size() - 1) + 1);
+            csv.append(employee).append(',').append(taskId).append(',')
+                    .append(FROM.plusDays(row / employees.size() % 360)).append(",billable,0.5\n");
+        }
+        UUID employee = employees.get(1);
+        csv.append("not-a-uuid,").append(taskId).append(",2023-03-01,BILLABLE,8\n")
+                .append(employee).append(",x,2023-03-01,BILLABLE,8\n")
+                .append(employee).append(',').append(taskId).append(",2023-02-30,BILLABLE,8\n")
+                .append(employee).append(',').append(taskId).append(",2023-03-01,HOLIDAY,8\n")
+                .append(employee).append(',').append(taskId).append(",2023-03-01,BILLABLE,25\n")
+                .append(employee).append(',').append(taskId).append(",2024-03-01,BILLABLE,8\n")
+                .append(UUID.randomUUID()).append(',').append(taskId).append(",2023-03-01,BILLABLE,8\n")
+                .append(employee).append(",999999,2023-03-01,BILLABLE,8\n")
+                .append(locked).append(',').append(taskId).append(",2023-06-07,BILLABLE,8\n");
+
+        TimesheetImportDto result = timesheetImportService.importEntries(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                TimesheetStatus.SUBMITTED, FROM, TO);
+        log.info("Imported {} entries in {} ms ({} entries/s)", result.imported(), result.elapsedMillis(),
+                result.imported() * 1000 / Math.max(result.elapsedMillis(), 1));
+
+        assertEquals(VALID_ROWS + 9, result.rows());
+        assertEquals(VALID_ROWS, result.imported());
+        long firstInvalidLine = VALID_ROWS + 2;
+        assertEquals(List.of(
+                TimesheetImportRejection.INVALID_EMPLOYEE_ID, TimesheetImportRejection.INVALID_TASK_ID,
+                TimesheetImportRejection.INVALID_DATE, TimesheetImportRejection.INVALID_ENTRY_TYPE,
+                TimesheetImportRejection.INVALID_HOURS, TimesheetImportRejection.DATE_OUT_OF_RANGE,
+                TimesheetImportRejection.UNKNOWN_EMPLOYEE, TimesheetImportRejection.UNKNOWN_TASK,
+                TimesheetImportRejection.TIMESHEET_LOCKED), result.rejections().stream()
+                .map(TimesheetImportDto.Rejection::reason).toList());
+        assertEquals(firstInvalidLine, result.rejections().getFirst().line());
+        assertEquals(9, result.rejected());
+        assertTrue(result.timesheetsCreated() > 0);
+        assertEquals(VALID_ROWS / 2.0, jdbcTemplate.queryForObject(
+                "SELECT total_hours FROM task_hours WHERE task_id = ?", Double.class, taskId));
+        assertEquals(VALID_ROWS / 2.0, jdbcTemplate.queryForObject(
+                "SELECT sum(total_hours) FROM hours_rollup WHERE task_id = ?", Double.class, taskId));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM timesheet t WHERE t.start_date BETWEEN ? AND ? " +
+                "AND t.status NOT IN ('SUBMITTED', 'APPROVED')", Long.class, FROM, TO));
+    }
+
+    @Test
+    void shouldNotCreateTimesheetOverlappingAnExistingOne() {
+        long taskId = jdbcTemplate.queryForObject("SELECT min(id) FROM task", Long.class);
+        UUID employee = jdbcTemplate.queryForObject("INSERT INTO employee (id) VALUES (gen_random_uuid()) RETURNING id",
+                UUID.class);
+        jdbcTemplate.update("INSERT INTO timesheet (id, status, start_date, end_date, employee_id) " +
+                "VALUES (gen_random_uuid(), 'DRAFTED', DATE '2023-08-09', DATE '2023-08-15', ?)", employee);
+        String csv = HEADER +
+                employee + "," + taskId + ",2023-08-07,BILLABLE,8\n" +
+                employee + "," + taskId + ",2023-08-10,BILLABLE,8\n" +
+                employee + "," + taskId + ",2023-08-21,BILLABLE,8\n";
+
+        TimesheetImportDto result = timesheetImportService.importEntries(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), TimesheetStatus.DRAFTED, FROM, TO);
+
+        assertEquals(2, result.imported());
+        assertEquals(1, result.timesheetsCreated());
+        assertEquals(List.of(new TimesheetImportDto.Rejection(2, TimesheetImportRejection.NO_TIMESHEET)),
+                result.rejections());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM timesheet a JOIN timesheet b " +
+                "ON a.employee_id = b.employee_id AND a.id < b.id AND a.start_date <= b.end_date " +
+                "AND b.start_date <= a.end_date WHERE a.employee_id = ?", Long.class, employee));
+    }
+
+    @Test
+    void shouldRejectFileWithUnexpectedHeader() {
+        assertThrows(TimesheetValidationException.class, () -> timesheetImportService.importEntries(
+                new ByteArrayInputStream("employee,task,day,type,hours\n".getBytes(StandardCharsets.UTF_8)),
+                TimesheetStatus.DRAFTED, FROM, TO));
+    }
+}
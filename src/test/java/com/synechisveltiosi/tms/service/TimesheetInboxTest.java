@@ -0,0 +1,120 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.response.TimesheetInboxDto;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.TimesheetSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Seeds a manager with thousands of transitive reports, each with a long approved history and one timesheet
+ * awaiting a decision, then checks the inbox contents and logs the latency of a page. The median is only held to
+ * a budget when one is given, e.g. {@code -Dtms.inbox.max-median-millis=50}, since wall-clock limits are not
+ * reliable on shared CI runners.
+ */
+@SpringBootTest
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+class TimesheetInboxTest {
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final int LEADS = 50;
+    private static final int REPORTS_PER_LEAD = 60;
+    private static final int WEEKS = 20;
+    private static final int ROUNDS = 50;
+    private static final Long MAX_MEDIAN_MILLIS = Long.getLong("tms.inbox.max-median-millis");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    @Autowired
+    private TimesheetQueryService timesheetQueryService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID director = UUID.randomUUID();
+
+    @BeforeAll
+    void seed() {
+        List<UUID> leads = createReports(director, LEADS);
+        leads.forEach(lead -> createReports(lead, REPORTS_PER_LEAD));
+        jdbcTemplate.update("INSERT INTO timesheet (id, status, start_date, end_date, employee_id) " +
+                "SELECT gen_random_uuid(), CASE WHEN w = 0 THEN 'SUBMITTED' WHEN w = 1 AND h.depth = 1 THEN 'PENDING' ELSE 'APPROVED' END, " +
+                "DATE '2024-01-01' - w * 7, DATE '2024-01-07' - w * 7, h.descendant_id " +
+                "FROM employee_hierarchy h CROSS JOIN generate_series(0, ?) w WHERE h.ancestor_id = ? AND h.depth > 0",
+                WEEKS - 1, director);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void shouldListEveryAwaitingTimesheetOfTheReportingLineOnce() {
+        Set<UUID> seen = new HashSet<>();
+        String cursor = null;
+        do {
+            TimesheetInboxDto page = timesheetQueryService.getApprovalInbox(director, false, null, cursor, 100);
+            page.content().stream().map(TimesheetSummary::id).forEach(id -> assertTrue(seen.add(id)));
+            assertEquals(Map.of(TimesheetStatus.SUBMITTED, (long) LEADS * (REPORTS_PER_LEAD + 1),
+                    TimesheetStatus.PENDING, (long) LEADS), page.counts());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(LEADS * (REPORTS_PER_LEAD + 2), seen.size());
+    }
+
+    @Test
+    void shouldLimitInboxToDirectReportsAndRequestedStatuses() {
+        TimesheetInboxDto inbox = timesheetQueryService.getApprovalInbox(director, true, Set.of(TimesheetStatus.PENDING), null, 100);
+
+        assertEquals(LEADS, inbox.content().size());
+        assertTrue(inbox.content().stream().allMatch(summary -> summary.status() == TimesheetStatus.PENDING));
+        assertNull(inbox.nextCursor());
+    }
+
+    @Test
+    void shouldServeInboxPageWithinLatencyBudget() {
+        long[] millis = IntStream.range(0, ROUNDS).mapToLong(round -> {
+            long started = System.nanoTime();
+            timesheetQueryService.getApprovalInbox(director, false, null, null, 20);
+            return (System.nanoTime() - started) / 1_000_000;
+        }).sorted().toArray();
+        log.info("Inbox for {} reports: p50 {} ms, p99 {} ms", LEADS * (REPORTS_PER_LEAD + 1),
+                millis[ROUNDS / 2], millis[ROUNDS * 99 / 100]);
+
+        if (MAX_MEDIAN_MILLIS != null) {
+            assertTrue(millis[ROUNDS / 2] < MAX_MEDIAN_MILLIS, "median inbox latency " + millis[ROUNDS / 2] + " ms");
+        }
+    }
+
+    private List<UUID> createReports(UUID managerId, int count) {
+        if (managerId == director) {
+            jdbcTemplate.update("INSERT INTO employee (id) VALUES (?) ON CONFLICT DO NOTHING", director);
+        }
+        List<UUID> reports = IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+        jdbcTemplate.batchUpdate("INSERT INTO employee (id) VALUES (?)", reports, reports.size(),
+                (ps, id) -> ps.setObject(1, id));
+        jdbcTemplate.batchUpdate("INSERT INTO employee_manager (employee_id, manager_id) VALUES (?, ?)", reports, reports.size(),
+                (ps, id) -> {
+                    ps.setObject(1, id);
+                    ps.setObject(2, managerId);
+                });
+        return reports;
+    }
+}
@@ -0,0 +1,177 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.request.TimesheetRequest;
+import com.synechisveltiosi.tms.api.response.TimesheetDto;
+import com.synechisveltiosi.tms.api.response.TimesheetEntryDto;
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.repository.EmployeeRepository;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import com.synechisveltiosi.tms.util.DataUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round trips entries through the packed {@code timesheet_line} storage on both read paths, migrates rows of the
+ * former {@code timesheet_entry} table, and logs the rows and index sizes of both layouts for the same entries. The
+ * one-row-per-entry layout is rebuilt from the view with the indexes the former table had.
+ */
+@SpringBootTest
+@Testcontainers
+@Slf4j
+class TimesheetLineStorageTest {
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final String SCRIPT = "db/timesheet-line.sql";
+    private static final String SEPARATOR = "@@";
+    private static final int SIZE_TIMESHEETS = 2000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private TimesheetService timesheetService;
+    @Autowired
+    private TimesheetQueryService timesheetQueryService;
+    @Autowired
+    private TimesheetRepository timesheetRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void packedEntriesShouldReadBackOnBothPaths() {
+        Employee employee = createEmployee();
+        LocalDate wednesday = LocalDate.of(2021, 3, 3);
+        List<TimesheetRequest.TimesheetEntryRequest> entries = List.of(
+                new TimesheetRequest.TimesheetEntryRequest(null, 1L, TimesheetEntryType.BILLABLE, wednesday, 8),
+                new TimesheetRequest.TimesheetEntryRequest(null, 1L, TimesheetEntryType.OVERTIME, wednesday, 2),
+                new TimesheetRequest.TimesheetEntryRequest(null, 1L, TimesheetEntryType.NON_BILLABLE, wednesday.plusDays(1), 4),
+                new TimesheetRequest.TimesheetEntryRequest(null, 2L, TimesheetEntryType.BILLABLE, wednesday.plusDays(5), 6));
+
+        TimesheetDto saved = timesheetService.draftOrSubmitTimesheet(employee.getId(), TimesheetStatus.DRAFTED,
+                new TimesheetRequest(wednesday, wednesday.plusDays(6), entries));
+
+        TimesheetDto entityPath = transactionTemplate.execute(status ->
+                new TimesheetDto(timesheetRepository.findById(saved.id()).orElseThrow()));
+        TimesheetDto projectionPath = timesheetQueryService.getTimesheetById(saved.id());
+        assertEquals(new HashSet<>(saved.entries()), new HashSet<>(entityPath.entries()));
+        assertEquals(new HashSet<>(entityPath.entries()), new HashSet<>(projectionPath.entries()));
+        assertEquals(entries.size(), projectionPath.entries().size());
+        assertEquals(14.0, projectionPath.entries().stream().filter(e -> e.date().equals(wednesday))
+                .mapToDouble(TimesheetEntryDto::hours).sum());
+        assertEquals(3, countLines(saved.id()));
+    }
+
+    @Test
+    void legacyEntriesShouldBeMigratedIntoLines() {
+        Employee employee = createEmployee();
+        UUID timesheetId = createTimesheet(employee);
+        jdbcTemplate.execute("CREATE TABLE timesheet_entry (id uuid PRIMARY KEY, date date, entry_type varchar(255), " +
+                "hours float8 NOT NULL, task_id bigint, disable boolean NOT NULL, timesheet_id uuid)");
+        jdbcTemplate.update("INSERT INTO timesheet_entry VALUES " +
+                "(gen_random_uuid(), DATE '2021-03-01', 'BILLABLE', 8, 1, false, ?), " +
+                "(gen_random_uuid(), DATE '2021-03-01', 'OVERTIME', 2, 1, false, ?), " +
+                "(gen_random_uuid(), DATE '2021-03-06', 'HOLIDAY', 0, 1, true, ?), " +
+                "(gen_random_uuid(), DATE '2021-03-08', NULL, 3, NULL, false, ?)",
+                timesheetId, timesheetId, timesheetId, timesheetId);
+
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(SCRIPT));
+        populator.setSeparator(SEPARATOR);
+        populator.execute(dataSource);
+
+        assertNull(jdbcTemplate.queryForObject("SELECT CAST(to_regclass('timesheet_entry') AS text)", String.class));
+        assertEquals(3, countLines(timesheetId));
+        List<Map<String, Object>> days = jdbcTemplate.queryForList("SELECT date, entry_type, hours, task_id, disable " +
+                "FROM timesheet_entry_day WHERE timesheet_id = ? ORDER BY date, hours", timesheetId);
+        assertEquals(4, days.size());
+        assertEquals(List.of("OVERTIME", "BILLABLE", "HOLIDAY"),
+                days.subList(0, 3).stream().map(day -> day.get("entry_type")).toList());
+        assertTrue((Boolean) days.get(2).get("disable"));
+        assertNull(days.get(3).get("entry_type"));
+        assertNull(days.get(3).get("task_id"));
+    }
+
+    @Test
+    void linesShouldTakeFewerRowsAndSmallerIndexesThanEntries() {
+        Employee employee = createEmployee();
+        jdbcTemplate.update("INSERT INTO timesheet (id, status, start_date, end_date, employee_id) " +
+                "SELECT gen_random_uuid(), 'APPROVED', DATE '2010-01-04' + 7 * n, DATE '2010-01-10' + 7 * n, ? " +
+                "FROM generate_series(0, ? - 1) n", employee.getId(), SIZE_TIMESHEETS);
+        jdbcTemplate.update("INSERT INTO timesheet_line (id, version, timesheet_id, task_id, week_start, seq, " +
+                "entry_days, disabled_days, entry_types, hours) " +
+                "SELECT CAST(overlay(CAST(gen_random_uuid() AS text) PLACING '0' FROM 36 FOR 1) AS uuid), 0, t.id, " +
+                "task.id, t.start_date, 0, 127, 96, 'BBBBBHH', '{8,8,8,8,8,0,0}' FROM timesheet t " +
+                "CROSS JOIN (VALUES (1), (2)) task(id) WHERE t.employee_id = ?", employee.getId());
+        jdbcTemplate.execute("CREATE TABLE timesheet_entry_flat AS SELECT * FROM timesheet_entry_day");
+        jdbcTemplate.execute("ALTER TABLE timesheet_entry_flat ADD PRIMARY KEY (id)");
+        jdbcTemplate.execute("CREATE INDEX ON timesheet_entry_flat (timesheet_id)");
+        jdbcTemplate.execute("CREATE INDEX ON timesheet_entry_flat (date)");
+
+        long lineRows = count("timesheet_line");
+        long entryRows = count("timesheet_entry_flat");
+        long lineIndexes = indexesSize("timesheet_line");
+        long entryIndexes = indexesSize("timesheet_entry_flat");
+        log.info("timesheet_line: {} rows, {} bytes of indexes; one row per entry: {} rows, {} bytes of indexes",
+                lineRows, lineIndexes, entryRows, entryIndexes);
+        jdbcTemplate.execute("DROP TABLE timesheet_entry_flat");
+
+        assertTrue(entryRows >= 5 * lineRows, "rows: " + entryRows + " entries for " + lineRows + " lines");
+        assertTrue(entryIndexes >= 3 * lineIndexes, "indexes: " + entryIndexes + " vs " + lineIndexes + " bytes");
+    }
+
+    private Employee createEmployee() {
+        return employeeRepository.save(Employee.builder()
+                .personDetails(DataUtils.createTestPersonDetails())
+                .manager(employeeRepository.findAll().stream().findAny().orElseThrow())
+                .build());
+    }
+
+    private UUID createTimesheet(Employee employee) {
+        return jdbcTemplate.queryForObject("INSERT INTO timesheet (id, status, start_date, end_date, employee_id) " +
+                "VALUES (gen_random_uuid(), 'DRAFTED', DATE '2021-03-01', DATE '2021-03-14', ?) RETURNING id",
+                UUID.class, employee.getId());
+    }
+
+    private long countLines(UUID timesheetId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM timesheet_line WHERE timesheet_id = ?", Long.class,
+                timesheetId);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    }
+
+    private long indexesSize(String table) {
+        jdbcTemplate.execute("ANALYZE " + table);
+        return jdbcTemplate.queryForObject("SELECT pg_indexes_size(CAST(? AS regclass))", Long.class, table);
+    }
+}
@@ -0,0 +1,67 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.api.request.TimesheetRequest;
+import com.synechisveltiosi.tms.model.entity.Task;
+import com.synechisveltiosi.tms.model.entity.Timesheet;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimesheetMapperTest {
+    @Mock
+    private TaskService taskService;
+    @InjectMocks
+    private TimesheetMapper timesheetMapper;
+
+    private final LocalDate date = LocalDate.of(2025, 1, 6);
+
+    @Test
+    @DisplayName("Should resolve every distinct task with a single lookup")
+    void shouldResolveEveryDistinctTaskWithSingleLookup() {
+        // given
+        Task first = Task.builder().id(1L).build();
+        Task second = Task.builder().id(2L).build();
+        when(taskService.getTasksByIds(Set.of(1L, 2L))).thenReturn(Map.of(1L, first, 2L, second));
+        Timesheet timesheet = new Timesheet();
+
+        // when
+        timesheetMapper.addEntriesToTimesheet(timesheet, List.of(entry(1L), entry(2L), entry(1L), entry(2L)));
+
+        // then
+        assertEquals(4, timesheet.getEntries().size());
+        verify(taskService, times(1)).getTasksByIds(any());
+        verify(taskService, never()).getTaskById(any());
+    }
+
+    @Test
+    @DisplayName("Should report all unknown tasks in one ValidationException")
+    void shouldReportAllUnknownTasksInOneValidationException() {
+        // given
+        when(taskService.getTasksByIds(Set.of(1L, 7L, 9L))).thenReturn(Map.of(1L, Task.builder().id(1L).build()));
+
+        // when
+        TimesheetValidationException exception = assertThrows(TimesheetValidationException.class,
+                () -> timesheetMapper.addEntriesToTimesheet(new Timesheet(), List.of(entry(9L), entry(1L), entry(7L))));
+
+        // then
+        assertEquals("Tasks not found with ids: [7, 9]", exception.getMessage());
+    }
+
+    private TimesheetRequest.TimesheetEntryRequest entry(Long taskId) {
+        return new TimesheetRequest.TimesheetEntryRequest(null, taskId, TimesheetEntryType.BILLABLE, date, 4);
+    }
+}
@@ -0,0 +1,142 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetNotFoundException;
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
+import com.synechisveltiosi.tms.api.response.TimesheetDto;
+import com.synechisveltiosi.tms.api.response.TimesheetSliceDto;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.TimesheetApprovalRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetEntryRow;
+import com.synechisveltiosi.tms.model.projection.TimesheetRow;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimesheetQueryServiceTest {
+    @Mock
+    private TimesheetRepository timesheetRepository;
+    @InjectMocks
+    private TimesheetQueryService timesheetQueryService;
+
+    private final UUID employeeId = UUID.randomUUID();
+    private final LocalDate startDate = LocalDate.of(2025, 1, 6);
+
+    @Test
+    @DisplayName("Should assemble timesheets from header, entry and approval rows")
+    void shouldAssembleTimesheetsFromRows() {
+        // given
+        TimesheetRow first = createRow(UUID.randomUUID());
+        TimesheetRow second = createRow(UUID.randomUUID());
+        UUID approverId = UUID.randomUUID();
+        when(timesheetRepository.findRowsByEmployeeId(employeeId)).thenReturn(List.of(first, second));
+        when(timesheetRepository.findEntryRows(List.of(first.id(), second.id()))).thenReturn(List.of(
+                new TimesheetEntryRow(first.id(), UUID.randomUUID(), 1L, TimesheetEntryType.BILLABLE, startDate, 8, false),
+                new TimesheetEntryRow(first.id(), UUID.randomUUID(), 2L, TimesheetEntryType.BILLABLE, startDate, 2, false)));
+        when(timesheetRepository.findApprovalRows(List.of(first.id(), second.id()))).thenReturn(List.of(
+                new TimesheetApprovalRow(second.id(), 1L, approverId, startDate, TimesheetStatus.PENDING, "")));
+
+        // when
+        List<TimesheetDto> result = timesheetQueryService.getAllTimesheetByEmployeeId(employeeId);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(0).entries().size());
+        assertTrue(result.get(0).approvals().isEmpty());
+        assertTrue(result.get(1).entries().isEmpty());
+        assertEquals(approverId, result.get(1).approvals().iterator().next().employeeApproverId());
+        assertEquals("John", result.get(0).employee().personDetails().name().firstName());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when employee has no timesheets")
+    void shouldThrowNotFoundExceptionWhenEmployeeHasNoTimesheets() {
+        // given
+        when(timesheetRepository.findRowsByEmployeeId(employeeId)).thenReturn(List.of());
+
+        // when
+        TimesheetNotFoundException exception = assertThrows(TimesheetNotFoundException.class,
+                () -> timesheetQueryService.getAllTimesheetByEmployeeId(employeeId));
+
+        // then
+        assertEquals("Timesheet not found for employee with id: " + employeeId, exception.getMessage());
+        verify(timesheetRepository, never()).findEntryRows(any());
+    }
+
+    @Test
+    @DisplayName("Should return a history page with a cursor pointing at the last timesheet when more pages exist")
+    void shouldReturnHistoryCursorWhenMorePagesExist() {
+        // given
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        TimesheetRow row = createRow(UUID.randomUUID());
+        when(timesheetRepository.findRowSliceByEmployeeId(eq(employeeId), eq(from), eq(to), eq(to.plusDays(1)), any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(row), PageRequest.ofSize(1), true));
+        when(timesheetRepository.findEntryRows(List.of(row.id()))).thenReturn(List.of(
+                new TimesheetEntryRow(row.id(), UUID.randomUUID(), 1L, TimesheetEntryType.BILLABLE, startDate, 8, false)));
+
+        // when
+        TimesheetSliceDto result = timesheetQueryService.getTimesheetHistoryByEmployeeId(employeeId, from, to, null, 1);
+
+        // then
+        assertEquals(1, result.content().size());
+        assertEquals(1, result.content().getFirst().entries().size());
+        assertEquals(new TimesheetCursor(row.startDate(), row.id()), TimesheetCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should resume the history after the cursor position without reading entries of an empty page")
+    void shouldResumeHistoryAfterCursorPosition() {
+        // given
+        TimesheetCursor cursor = new TimesheetCursor(LocalDate.of(2025, 2, 3), UUID.randomUUID());
+        when(timesheetRepository.findRowSliceByEmployeeId(eq(employeeId), any(), any(), eq(cursor.startDate()), eq(cursor.id()), any()))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(20), false));
+
+        // when
+        TimesheetSliceDto result = timesheetQueryService.getTimesheetHistoryByEmployeeId(employeeId, null, null, cursor.encode(), 20);
+
+        // then
+        assertTrue(result.content().isEmpty());
+        assertNull(result.nextCursor());
+        verify(timesheetRepository, never()).findEntryRows(any());
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when the history cursor is malformed")
+    void shouldThrowValidationExceptionWhenCursorIsMalformed() {
+        assertThrows(TimesheetValidationException.class,
+                () -> timesheetQueryService.getTimesheetHistoryByEmployeeId(employeeId, null, null, "not-a-cursor", 20));
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when timesheet doesn't exist")
+    void shouldThrowNotFoundExceptionWhenTimesheetDoesntExist() {
+        // given
+        UUID timesheetId = UUID.randomUUID();
+        when(timesheetRepository.findRowById(timesheetId)).thenReturn(Optional.empty());
+
+        // when / then
+        assertThrows(TimesheetNotFoundException.class, () -> timesheetQueryService.getTimesheetById(timesheetId));
+    }
+
+    private TimesheetRow createRow(UUID id) {
+        return new TimesheetRow(id, TimesheetStatus.DRAFTED, startDate, startDate.plusDays(6), employeeId,
+                "John", "Doe", "1234567890", "john.doe@gmail.com",
+                "123 Main St", "Apt 456", "New York", "NY", "10001", "USA");
+    }
+}
@@ -0,0 +1,113 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.request.TimesheetRequest;
+import com.synechisveltiosi.tms.api.response.TimesheetDto;
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.repository.EmployeeRepository;
+import com.synechisveltiosi.tms.repository.TimesheetRepository;
+import com.synechisveltiosi.tms.util.DataUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the entity read path with the projection read path on the same data: both must return the same
+ * DTOs, and the cost of each is logged so the two can be compared run over run. The entity path loads the
+ * timesheets with {@link com.synechisveltiosi.tms.model.entity.Timesheet#HISTORY_GRAPH} and maps them with the
+ * entity constructor of {@link TimesheetDto}.
+ */
+@SpringBootTest
+@Testcontainers
+@Slf4j
+class TimesheetReadPathComparisonTest {
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final int WEEKS = 26;
+    private static final int ROUNDS = 20;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private TimesheetService timesheetService;
+    @Autowired
+    private TimesheetQueryService timesheetQueryService;
+    @Autowired
+    private TimesheetRepository timesheetRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void projectionPathShouldReturnSameTimesheetsAsEntityPath() {
+        Employee employee = createEmployeeWithHistory();
+
+        List<TimesheetDto> entityPath = measure("entity", () -> readEntities(employee.getId()));
+        List<TimesheetDto> projectionPath = measure("projection", () -> timesheetQueryService.getAllTimesheetByEmployeeId(employee.getId()));
+
+        assertEquals(normalize(entityPath), normalize(projectionPath));
+    }
+
+    private List<TimesheetDto> readEntities(UUID employeeId) {
+        return transactionTemplate.execute(status -> timesheetRepository.findByEmployeeId(employeeId).orElseThrow()
+                .stream().map(TimesheetDto::new).toList());
+    }
+
+    private List<TimesheetDto> measure(String name, Supplier<List<TimesheetDto>> readPath) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        List<TimesheetDto> result = readPath.get();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            result = readPath.get();
+        }
+        long elapsedMicros = (System.nanoTime() - started) / 1000 / ROUNDS;
+        long allocatedBytes = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / ROUNDS;
+        log.info("{} read path: {} timesheets, {} us/op, {} bytes allocated/op", name, result.size(), elapsedMicros, allocatedBytes);
+        return result;
+    }
+
+    private Map<UUID, TimesheetDto> normalize(List<TimesheetDto> timesheets) {
+        Map<UUID, TimesheetDto> byId = new HashMap<>();
+        timesheets.forEach(t -> byId.put(t.id(), new TimesheetDto(t.id(), t.status(), t.startDate(), t.endDate(),
+                new HashSet<>(t.entries()), t.employee(), new HashSet<>(t.approvals()))));
+        return byId;
+    }
+
+    private Employee createEmployeeWithHistory() {
+        Employee employee = employeeRepository.save(Employee.builder()
+                .personDetails(DataUtils.createTestPersonDetails())
+                .manager(employeeRepository.findAll().stream().findAny().orElseThrow())
+                .build());
+        LocalDate monday = LocalDate.of(2020, 1, 6);
+        for (int week = 0; week < WEEKS; week++) {
+            LocalDate startDate = monday.plusWeeks(week);
+            timesheetService.draftOrSubmitTimesheet(employee.getId(), TimesheetStatus.SUBMITTED, new TimesheetRequest(
+                    startDate,
+                    startDate.plusDays(6),
+                    List.of(
+                            new TimesheetRequest.TimesheetEntryRequest(null, 1L, TimesheetEntryType.BILLABLE, startDate, 8),
+                            new TimesheetRequest.TimesheetEntryRequest(null, 2L, TimesheetEntryType.NON_BILLABLE, startDate.plusDays(1), 4))));
+        }
+        return employee;
+    }
+}
@@ -1,13 +1,18 @@
 package com.synechisveltiosi.tms.service;
 
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetConflictException;
 import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetNotFoundException;
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetUpdateException;
 import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetValidationException;
 import com.synechisveltiosi.tms.api.request.TimesheetApprovalRequest;
 import com.synechisveltiosi.tms.api.request.TimesheetRequest;
 import com.synechisveltiosi.tms.api.response.TimesheetDto;
+import com.synechisveltiosi.tms.api.response.TimesheetGenerationDto;
 import com.synechisveltiosi.tms.model.entity.Employee;
 import com.synechisveltiosi.tms.model.entity.Timesheet;
 import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.model.projection.TimesheetVersionRow;
+import com.synechisveltiosi.tms.repository.TimesheetApprovalRepository;
 import com.synechisveltiosi.tms.repository.TimesheetRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +45,16 @@ class TimesheetServiceTest {
     private TimesheetMapper timesheetMapper;
     @Mock
     private TimesheetValidator timesheetValidator;
+    @Mock
+    private TimesheetGenerator timesheetGenerator;
+    @Mock
+    private TaskHoursService taskHoursService;
+    @Mock
+    private HoursRollupService hoursRollupService;
+    @Mock
+    private TimesheetApprovalRepository timesheetApprovalRepository;
+    @Mock
+    private TimesheetQueryService timesheetQueryService;
     @InjectMocks
     private TimesheetService timesheetService;
 
@@ -55,35 +70,6 @@ class TimesheetServiceTest {
         initializeTestData();
     }
 
-    @Nested
-    @DisplayName("Get Employee Timesheets Tests")
-    class GetEmployeeTimesheetsTests {
-        @Test
-        @DisplayName("Should return timesheet list when employee has timesheets")
-        void shouldReturnTimesheetListWhenEmployeeHasTimesheets() {
-            //given
-            mockTimesheetRepositoryToReturn(List.of(timesheet));
-            //when
-            List<TimesheetDto> result = timesheetService.getAllTimesheetByEmployeeId(employeeId);
-            //then
-            assertTimesheetListResult(result);
-            verifyTimesheetRepositoryWasCalled();
-        }
-
-        @Test
-        @DisplayName("Should throw NotFoundException when employee has no timesheets")
-        void shouldThrowNotFoundExceptionWhenEmployeeHasNoTimesheets() {
-            //given
-            mockTimesheetRepositoryToReturn(List.of());
-            //when
-            TimesheetNotFoundException timesheetNotFoundException = assertThrows(TimesheetNotFoundException.class,
-                    () -> timesheetService.getAllTimesheetByEmployeeId(employeeId));
-            //then
-            assertEquals("Timesheet not found for employee with id: " + employeeId, timesheetNotFoundException.getMessage());
-            verifyTimesheetRepositoryWasCalled();
-        }
-    }
-
     @Nested
     @DisplayName("Create Timesheet Tests")
     class CreateTimesheetTests {
@@ -103,6 +89,62 @@ class TimesheetServiceTest {
             verifyTimesheetWasSaved();
         }
 
+        @Test
+        @DisplayName("Should reuse the timesheet already generated for the period")
+        void shouldReuseTimesheetAlreadyGeneratedForPeriod() {
+            //given
+            timesheet = createTestTimesheet(TimesheetStatus.CREATED, employee, createTimesheetApproval(1L, employee));
+            when(employeeService.getEmployeeById(employeeId)).thenReturn(employee);
+            when(timesheetRepository.findByEmployeeIdAndPeriod(employeeId, timesheetRequest.startDate(), timesheetRequest.endDate()))
+                    .thenReturn(Optional.of(timesheet));
+            when(timesheetMapper.updateEntity(timesheet, TimesheetStatus.SUBMITTED, timesheetRequest)).thenReturn(timesheet);
+            when(timesheetRepository.save(timesheet)).thenReturn(timesheet);
+            //when
+            timesheetService.draftOrSubmitTimesheet(employeeId, TimesheetStatus.SUBMITTED, timesheetRequest);
+            //then
+            verify(timesheetMapper, never()).toEntity(any(), any(), any());
+            verifyTimesheetWasSaved();
+            verify(taskHoursService).recordReplacement(any(), eq(timesheet.getEntries()));
+            verify(hoursRollupService).recordTransition(timesheet.getId(), TimesheetStatus.DRAFTED, TimesheetStatus.SUBMITTED);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = TimesheetStatus.class, names = {"SUBMITTED", "PENDING", "OPEN_RESUBMITTED", "APPROVED",
+                "CANCELLED"})
+        @DisplayName("Should refuse to redraft a timesheet that is awaiting a decision or final")
+        void shouldRefuseToRedraftTimesheetThatIsNotEditable(TimesheetStatus current) {
+            //given
+            timesheet = createTestTimesheet(current, employee, createTimesheetApproval(1L, employee));
+            when(employeeService.getEmployeeById(employeeId)).thenReturn(employee);
+            when(timesheetRepository.findByEmployeeIdAndPeriod(employeeId, timesheetRequest.startDate(), timesheetRequest.endDate()))
+                    .thenReturn(Optional.of(timesheet));
+            //when
+            assertThrows(TimesheetUpdateException.class,
+                    () -> timesheetService.draftOrSubmitTimesheet(employeeId, TimesheetStatus.DRAFTED, timesheetRequest));
+            //then
+            verify(timesheetRepository, never()).save(any());
+            verifyNoInteractions(timesheetMapper, taskHoursService, hoursRollupService);
+        }
+
+        @Test
+        @DisplayName("Should let a rejected timesheet be redrafted but not submitted as is")
+        void shouldRedraftRejectedTimesheetBeforeResubmission() {
+            //given
+            timesheet = createTestTimesheet(TimesheetStatus.REJECTED, employee, createTimesheetApproval(1L, employee));
+            when(employeeService.getEmployeeById(employeeId)).thenReturn(employee);
+            when(timesheetRepository.findByEmployeeIdAndPeriod(employeeId, timesheetRequest.startDate(), timesheetRequest.endDate()))
+                    .thenReturn(Optional.of(timesheet));
+            when(timesheetMapper.updateEntity(timesheet, TimesheetStatus.DRAFTED, timesheetRequest)).thenReturn(timesheet);
+            when(timesheetRepository.save(timesheet)).thenReturn(timesheet);
+            //when
+            assertThrows(TimesheetUpdateException.class,
+                    () -> timesheetService.draftOrSubmitTimesheet(employeeId, TimesheetStatus.SUBMITTED, timesheetRequest));
+            timesheetService.draftOrSubmitTimesheet(employeeId, TimesheetStatus.DRAFTED, timesheetRequest);
+            //then
+            verify(timesheetMapper, never()).updateEntity(any(), eq(TimesheetStatus.SUBMITTED), any());
+            verifyTimesheetWasSaved();
+        }
+
         @Test
         @DisplayName("Should throw ValidationException when validation fails")
         void shouldThrowValidationException() {
@@ -147,13 +189,43 @@ class TimesheetServiceTest {
         @DisplayName("Should throw NotFoundException when timesheet doesn't exist")
         void shouldThrowNotFoundExceptionWhenTimesheetDoesntExist() {
             //given
-            when(timesheetRepository.findById(timesheetId)).thenReturn(Optional.empty());
+            when(timesheetRepository.findVersionRow(timesheetId)).thenReturn(Optional.empty());
             //when
             TimesheetNotFoundException exception = assertThrows(TimesheetNotFoundException.class,
                     () -> timesheetService.approveTimesheet(timesheetId, employeeApproverId, approvalRequest));
             //then
             assertEquals("Timesheet not found with id: " + timesheetId, exception.getMessage());
-            verify(timesheetRepository).findById(timesheetId);
+            verify(timesheetRepository).findVersionRow(timesheetId);
+            verify(timesheetRepository, never()).compareAndSetStatus(any(), any(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Should refuse a decision on a timesheet already decided")
+        void shouldRefuseDecisionOnTimesheetAlreadyDecided() {
+            //given
+            when(timesheetRepository.findVersionRow(timesheetId))
+                    .thenReturn(Optional.of(new TimesheetVersionRow(timesheetId, TimesheetStatus.APPROVED, 4L)));
+            //when
+            assertThrows(TimesheetUpdateException.class,
+                    () -> timesheetService.approveTimesheet(timesheetId, employeeApproverId, approvalRequest));
+            //then
+            verify(timesheetRepository, never()).compareAndSetStatus(any(), any(), anyLong(), any());
+            verifyNoInteractions(timesheetApprovalRepository, hoursRollupService);
+        }
+
+        @Test
+        @DisplayName("Should throw ConflictException when a concurrent decision won")
+        void shouldThrowConflictExceptionWhenConcurrentDecisionWon() {
+            //given
+            when(timesheetRepository.findVersionRow(timesheetId))
+                    .thenReturn(Optional.of(new TimesheetVersionRow(timesheetId, TimesheetStatus.SUBMITTED, 3L)));
+            when(timesheetRepository.compareAndSetStatus(timesheetId, TimesheetStatus.SUBMITTED, 3L,
+                    TimesheetStatus.APPROVED)).thenReturn(0);
+            //when
+            assertThrows(TimesheetConflictException.class,
+                    () -> timesheetService.approveTimesheet(timesheetId, employeeApproverId, approvalRequest));
+            //then
+            verifyNoInteractions(timesheetApprovalRepository, hoursRollupService, timesheetQueryService);
         }
     }
 
@@ -162,54 +234,27 @@ class TimesheetServiceTest {
     class GenerateTimesheetsTests {
         private LocalDate testStartDate;
         private LocalDate testEndDate;
-        private List<Employee> employees;
-        
+
         @BeforeEach
         void setUp() {
             testStartDate = LocalDate.of(2025, 1, 1);
             testEndDate = LocalDate.of(2025, 1, 7);
-            employees = List.of(
-                createTestEmployee(UUID.randomUUID()),
-                createTestEmployee(UUID.randomUUID())
-            );
-        }
-        
-        @Test
-        @DisplayName("Should generate empty list when no employees exist")
-        void shouldGenerateEmptyListWhenNoEmployeesExist() {
-            // given
-            when(employeeService.getAllEmployee()).thenReturn(Collections.emptyList());
-            when(timesheetRepository.saveAll(anyList())).thenReturn(Collections.emptyList());
-
-            // when
-            List<TimesheetDto> result = timesheetService.generateTimesheets(testStartDate, testEndDate);
-
-            // then
-            assertNotNull(result);
-            assertTrue(result.isEmpty());
-            verify(employeeService).getAllEmployee();
-            verify(timesheetRepository).saveAll(Collections.emptyList());
         }
 
         @Test
-        @DisplayName("Should generate timesheets for all employees")
-        void shouldGenerateTimesheetsForAllEmployees() {
+        @DisplayName("Should delegate generation to the chunked generator")
+        void shouldDelegateGenerationToChunkedGenerator() {
             // given
-            List<Timesheet> generatedTimesheets = employees.stream()
-                    .map(employee -> createTestTimesheet(TimesheetStatus.CREATED, employee, createTimesheetApproval(1L, employee)))
-                    .toList();
-            when(employeeService.getAllEmployee()).thenReturn(employees);
-            when(timesheetMapper.createTimesheetBase(any(), any(), any())).thenReturn(new Timesheet());
-            when(timesheetRepository.saveAll(anyList())).thenReturn(generatedTimesheets);
+            TimesheetGenerationDto summary = new TimesheetGenerationDto(testStartDate, testEndDate, 2, 2, 10, List.of());
+            when(timesheetGenerator.generate(testStartDate, testEndDate)).thenReturn(summary);
 
             // when
-            List<TimesheetDto> result = timesheetService.generateTimesheets(testStartDate, testEndDate);
+            TimesheetGenerationDto result = timesheetService.generateTimesheets(testStartDate, testEndDate);
 
             // then
-            assertNotNull(result);
-            assertEquals(employees.size(), result.size());
-            verify(employeeService).getAllEmployee();
-            verify(timesheetRepository).saveAll(anyList());
+            assertEquals(summary, result);
+            verify(timesheetGenerator).generate(testStartDate, testEndDate);
+            verifyNoInteractions(timesheetRepository, employeeService);
         }
     }
 
@@ -229,38 +274,33 @@ class TimesheetServiceTest {
         timesheetRequest = createTestTimesheetRequest();
     }
 
-    private void mockTimesheetRepositoryToReturn(List<Timesheet> timesheets) {
-        when(timesheetRepository.findByEmployeeId(employeeId))
-                .thenReturn(Optional.of(timesheets));
-    }
-
     private void mockDependenciesForSuccessfulCreation(TimesheetStatus status) {
         when(employeeService.getEmployeeById(employeeId)).thenReturn(employee);
         when(timesheetMapper.toEntity(employee, status, timesheetRequest)).thenReturn(timesheet);
         when(timesheetRepository.save(timesheet)).thenReturn(timesheet);
     }
 
-    private void assertTimesheetListResult(List<TimesheetDto> result) {
-        assertNotNull(result);
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-    }
-
-    private void verifyTimesheetRepositoryWasCalled() {
-        verify(timesheetRepository, times(1)).findByEmployeeId(employeeId);
-    }
-
     private void verifyTimesheetWasSaved() {
         verify(timesheetRepository, times(1)).save(timesheet);
     }
 
     private void mockDependenciesForSuccessfulApproval() {
-        when(timesheetRepository.findById(any(UUID.class))).thenReturn(Optional.of(timesheet));
-        when(timesheetRepository.save(any(Timesheet.class))).thenReturn(timesheet);
+        timesheet.setStatus(TimesheetStatus.APPROVED);
+        timesheet.addApproval(createTimesheetApproval(2L, employee));
+        when(timesheetRepository.findVersionRow(any(UUID.class)))
+                .thenAnswer(invocation -> Optional.of(new TimesheetVersionRow(invocation.getArgument(0),
+                        TimesheetStatus.SUBMITTED, 3L)));
+        when(timesheetRepository.compareAndSetStatus(any(UUID.class), eq(TimesheetStatus.SUBMITTED), eq(3L),
+                eq(TimesheetStatus.APPROVED))).thenReturn(1);
+        when(timesheetQueryService.getTimesheetById(any(UUID.class))).thenReturn(new TimesheetDto(timesheet));
     }
 
     private void verifyTimesheetWasApproved() {
-        verify(timesheetRepository, times(1)).findById(any(UUID.class));
-        verify(timesheetRepository, times(1)).save(any(Timesheet.class));
+        verify(timesheetApprovalRepository, times(1))
+                .insertApprovals(anyList(), eq(employeeApproverId), eq("APPROVED"), eq("Approved"));
+        verify(hoursRollupService).recordTransition(any(UUID.class), eq(TimesheetStatus.SUBMITTED),
+                eq(TimesheetStatus.APPROVED));
+        verify(timesheetRepository, never()).findById(any(UUID.class));
+        verify(timesheetRepository, never()).save(any(Timesheet.class));
     }
-}
\ No newline at end of file
+}
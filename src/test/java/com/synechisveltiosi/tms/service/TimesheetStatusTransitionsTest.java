@@ -0,0 +1,62 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.exception.timesheet.TimesheetUpdateException;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimesheetStatusTransitionsTest {
+
+    @ParameterizedTest
+    @EnumSource(value = TimesheetStatus.class, names = {"SUBMITTED", "PENDING", "OPEN_RESUBMITTED"})
+    @DisplayName("Should let every status awaiting a decision be approved or rejected")
+    void shouldDecideEveryStatusAwaitingDecision(TimesheetStatus status) {
+        assertTrue(TimesheetApprovalService.AWAITING_DECISION.contains(status));
+        for (TimesheetStatus decision : TimesheetApprovalService.DECISIONS) {
+            assertTrue(TimesheetStatusTransitions.isAllowed(status, decision));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TimesheetStatus.class, names = {"APPROVED", "CANCELLED"})
+    @DisplayName("Should keep approved and cancelled timesheets final")
+    void shouldKeepFinalStatusesFinal(TimesheetStatus status) {
+        for (TimesheetStatus to : TimesheetStatus.values()) {
+            assertFalse(TimesheetStatusTransitions.isAllowed(status, to));
+        }
+        assertTrue(TimesheetStatusTransitions.allowedFrom(status).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not let a timesheet be decided before it is submitted")
+    void shouldNotDecideBeforeSubmission() {
+        assertFalse(TimesheetStatusTransitions.isAllowed(TimesheetStatus.DRAFTED, TimesheetStatus.APPROVED));
+        assertFalse(TimesheetStatusTransitions.isAllowed(TimesheetStatus.CREATED, TimesheetStatus.REJECTED));
+        assertFalse(TimesheetStatusTransitions.isAllowed(null, TimesheetStatus.SUBMITTED));
+        assertTrue(TimesheetStatusTransitions.isAllowed(TimesheetStatus.REJECTED, TimesheetStatus.OPEN_RESUBMITTED));
+    }
+
+    @Test
+    @DisplayName("Should derive the set-wise status filters from the transition table")
+    void shouldDeriveStatusFiltersFromTable() {
+        // must match the literals of TimesheetRepository#AWAITING_DECISION and db/timesheet-inbox.sql
+        assertEquals(EnumSet.of(TimesheetStatus.SUBMITTED, TimesheetStatus.PENDING, TimesheetStatus.OPEN_RESUBMITTED),
+                TimesheetApprovalService.AWAITING_DECISION);
+        assertEquals(EnumSet.of(TimesheetStatus.CREATED, TimesheetStatus.DRAFTED), TimesheetImportService.EDITABLE);
+    }
+
+    @Test
+    @DisplayName("Should report no allowed transitions for a timesheet without a status")
+    void shouldAllowNothingFromMissingStatus() {
+        assertTrue(TimesheetStatusTransitions.allowedFrom(null).isEmpty());
+        TimesheetUpdateException exception = assertThrows(TimesheetUpdateException.class,
+                () -> TimesheetStatusTransitions.requireAllowed(null, TimesheetStatus.APPROVED));
+        assertTrue(exception.getMessage().endsWith("allowed: []"));
+    }
+}
@@ -0,0 +1,151 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.api.request.TimesheetRequest;
+import com.synechisveltiosi.tms.model.entity.Employee;
+import com.synechisveltiosi.tms.model.entity.TimesheetLine;
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import com.synechisveltiosi.tms.model.enums.TimesheetStatus;
+import com.synechisveltiosi.tms.repository.EmployeeRepository;
+import com.synechisveltiosi.tms.util.DataUtils;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Submits the same timesheet against a task with no history and against a task with a long history. The write
+ * path must issue the same statements for both and never initialize a task's entry collection; latencies are
+ * logged so they can be compared run over run. The task totals of a database that predates them are backfilled
+ * once from the stored entries.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Testcontainers
+@Slf4j
+class TimesheetSubmitLatencyTest {
+    private static final String POSTGRES_IMAGE = "postgres:latest";
+    private static final long FRESH_TASK_ID = 1L;
+    private static final long LONG_LIVED_TASK_ID = 2L;
+    private static final int HISTORY_ENTRIES = 200_000;
+    private static final int ROUNDS = 20;
+    private static final String SCRIPT = "db/task-hours.sql";
+    private static final String SEPARATOR = "@@";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(
+            DockerImageName.parse(POSTGRES_IMAGE)
+    );
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private TimesheetService timesheetService;
+    @Autowired
+    private TaskHoursService taskHoursService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void submitCostShouldNotGrowWithTaskHistory() {
+        Employee employee = createEmployee();
+        createHistory(employee, LONG_LIVED_TASK_ID, HISTORY_ENTRIES);
+
+        long freshStatements = measure("fresh task", createEmployee(), FRESH_TASK_ID);
+        long longLivedStatements = measure("long-lived task", createEmployee(), LONG_LIVED_TASK_ID);
+
+        assertEquals(freshStatements, longLivedStatements);
+        assertEquals(ROUNDS, taskHoursService.getTaskHours(LONG_LIVED_TASK_ID).getEntryCount());
+    }
+
+    @Test
+    void taskHoursShouldBeBackfilledOnceFromStoredEntries() {
+        LocalDate startDate = LocalDate.of(2030, 1, 7);
+        timesheetService.draftOrSubmitTimesheet(createEmployee().getId(), TimesheetStatus.SUBMITTED, new TimesheetRequest(
+                startDate,
+                startDate.plusDays(6),
+                List.of(new TimesheetRequest.TimesheetEntryRequest(null, FRESH_TASK_ID, TimesheetEntryType.BILLABLE, startDate, 8),
+                        new TimesheetRequest.TimesheetEntryRequest(null, FRESH_TASK_ID, TimesheetEntryType.OVERTIME, startDate, 4))));
+
+        jdbcTemplate.update("DELETE FROM task_hours");
+        runScript();
+        List<Map<String, Object>> backfilled = taskHours();
+        assertEquals(entriesByTask(), backfilled);
+
+        createHistory(createEmployee(), FRESH_TASK_ID, TimesheetLine.DAYS);
+        runScript();
+        assertEquals(backfilled, taskHours());
+    }
+
+    private long measure(String name, Employee employee, long taskId) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long started = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalDate startDate = LocalDate.of(2024, 1, 1).plusWeeks(round);
+            timesheetService.draftOrSubmitTimesheet(employee.getId(), TimesheetStatus.SUBMITTED, new TimesheetRequest(
+                    startDate,
+                    startDate.plusDays(6),
+                    List.of(new TimesheetRequest.TimesheetEntryRequest(null, taskId, TimesheetEntryType.BILLABLE, startDate, 8))));
+        }
+        long elapsedMicros = (System.nanoTime() - started) / 1000 / ROUNDS;
+        assertEquals(0, statistics.getCollectionFetchCount(), "collections fetched while submitting");
+        log.info("submit against {}: {} us/op, {} statements", name, elapsedMicros, statistics.getPrepareStatementCount());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Employee createEmployee() {
+        return employeeRepository.save(Employee.builder()
+                .personDetails(DataUtils.createTestPersonDetails())
+                .manager(employeeRepository.findAll().stream().findAny().orElseThrow())
+                .build());
+    }
+
+    private void runScript() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(SCRIPT));
+        populator.setSeparator(SEPARATOR);
+        populator.execute(dataSource);
+    }
+
+    private List<Map<String, Object>> taskHours() {
+        return jdbcTemplate.queryForList("SELECT task_id, total_hours AS hours, entry_count AS entries " +
+                "FROM task_hours ORDER BY task_id");
+    }
+
+    private List<Map<String, Object>> entriesByTask() {
+        return jdbcTemplate.queryForList("SELECT task_id, SUM(hours) AS hours, COUNT(*) AS entries " +
+                "FROM timesheet_entry_day WHERE task_id IS NOT NULL GROUP BY task_id ORDER BY task_id");
+    }
+
+    private void createHistory(Employee employee, long taskId, int entries) {
+        jdbcTemplate.update("INSERT INTO timesheet (id, status, start_date, end_date, employee_id) " +
+                "VALUES (gen_random_uuid(), 'APPROVED', DATE '2000-01-03', DATE '2000-01-09', ?)", employee.getId());
+        jdbcTemplate.update("INSERT INTO timesheet_line (id, version, timesheet_id, task_id, week_start, seq, " +
+                "entry_days, disabled_days, entry_types, hours) " +
+                "SELECT CAST(overlay(CAST(gen_random_uuid() AS text) PLACING '0' FROM 36 FOR 1) AS uuid), 0, t.id, ?, " +
+                "DATE '2000-01-03', n, 127, 0, 'BBBBBBB', '{8,8,8,8,8,8,8}' " +
+                "FROM generate_series(0, ? - 1) n CROSS JOIN (SELECT id FROM timesheet WHERE employee_id = ?) t",
+                taskId, (entries + TimesheetLine.DAYS - 1) / TimesheetLine.DAYS, employee.getId());
+    }
+}
@@ -0,0 +1,134 @@
+package com.synechisveltiosi.tms.service;
+
+import com.synechisveltiosi.tms.model.enums.TimesheetEntryType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UtilizationCubeTest {
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate MONDAY = LocalDate.of(2024, 12, 30);
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UtilizationCube cube = UtilizationCube.create(WEDNESDAY, 4);
+
+    @Test
+    @DisplayName("Should sum team hours per week for the requested entry types")
+    void shouldSumTeamHoursPerWeek() {
+        cube.add(alice, MONDAY, TimesheetEntryType.BILLABLE, 8);
+        cube.add(alice, MONDAY.plusDays(6), TimesheetEntryType.NON_BILLABLE, 4);
+        cube.add(bob, MONDAY.plusWeeks(1), TimesheetEntryType.BILLABLE, 6);
+        cube.add(bob, MONDAY.plusWeeks(1), TimesheetEntryType.LEAVE, 8);
+        int[] team = cube.ordinalsOf(List.of(alice, bob, UUID.randomUUID()));
+
+        float[] worked = cube.weeklyHours(team, 0, 2, UtilizationCube.WORKED);
+
+        assertEquals(MONDAY, cube.firstWeek());
+        assertEquals(2, team.length);
+        assertArrayEquals(new float[]{12, 6, 0}, worked);
+        assertEquals(14.0 / 18, cube.billableRatio(team, 0, 3), 1e-6);
+    }
+
+    @Test
+    @DisplayName("Should drop hours outside the window and retract hours with negative deltas")
+    void shouldDropHoursOutsideWindowAndRetract() {
+        assertFalse(cube.add(alice, MONDAY.minusDays(1), TimesheetEntryType.BILLABLE, 8));
+        assertFalse(cube.add(alice, MONDAY.plusWeeks(4), TimesheetEntryType.BILLABLE, 8));
+        assertTrue(cube.add(alice, MONDAY, TimesheetEntryType.BILLABLE, 8));
+        assertTrue(cube.add(alice, MONDAY, TimesheetEntryType.BILLABLE, -8));
+
+        assertArrayEquals(new float[]{0, 0, 0, 0, 0, 0}, cube.hoursByType(cube.ordinalsOf(List.of(alice)), -5, 10));
+    }
+
+    @Test
+    @DisplayName("Should slide the window in place, keeping the weeks still inside it")
+    void shouldSlideWindowInPlace() {
+        cube.add(alice, MONDAY, TimesheetEntryType.BILLABLE, 1);
+        cube.add(alice, MONDAY.plusWeeks(2), TimesheetEntryType.BILLABLE, 3);
+        cube.add(alice, MONDAY.plusWeeks(3), TimesheetEntryType.BILLABLE, 4);
+        assertFalse(cube.add(alice, MONDAY.plusWeeks(4), TimesheetEntryType.BILLABLE, 5));
+        long size = cube.sizeInBytes();
+
+        assertEquals(2, cube.slideTo(MONDAY.plusWeeks(2).plusDays(3)));
+        assertTrue(cube.add(alice, MONDAY.plusWeeks(4), TimesheetEntryType.BILLABLE, 5));
+        int[] team = cube.ordinalsOf(List.of(alice));
+
+        assertEquals(MONDAY.plusWeeks(2), cube.firstWeek());
+        assertEquals(size, cube.sizeInBytes());
+        assertArrayEquals(new float[]{3, 4, 5, 0}, cube.weeklyHours(team, 0, 3, UtilizationCube.WORKED));
+        assertEquals(0, cube.slideTo(MONDAY.plusWeeks(2)));
+
+        assertEquals(-1, cube.slideTo(MONDAY.plusWeeks(1)));
+        assertArrayEquals(new float[]{0, 3, 4, 5}, cube.weeklyHours(team, 0, 3, UtilizationCube.WORKED));
+        assertEquals(10, cube.slideTo(MONDAY.plusWeeks(11)));
+        assertArrayEquals(new float[]{0, 0, 0, 0}, cube.weeklyHours(team, 0, 3, UtilizationCube.WORKED));
+    }
+
+    @Test
+    @DisplayName("Should count the cells that drifted from hours fed employee by employee")
+    void shouldCountDriftedCells() {
+        List<UUID> ids = new ArrayList<>();
+        for (int employee = 0; employee < 300; employee++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            cube.add(id, MONDAY, TimesheetEntryType.BILLABLE, 8);
+        }
+        cube.add(alice, MONDAY, TimesheetEntryType.OVERTIME, 2);
+
+        UtilizationCube.Drift inSync = cube.drift();
+        ids.forEach(id -> inSync.add(id, MONDAY, TimesheetEntryType.BILLABLE, 8));
+        inSync.add(alice, MONDAY, TimesheetEntryType.OVERTIME, 2);
+        assertEquals(0, inSync.finish());
+
+        UtilizationCube.Drift drifted = cube.drift();
+        ids.forEach(id -> {
+            drifted.add(id, MONDAY, TimesheetEntryType.BILLABLE, 4);
+            drifted.add(id, MONDAY.plusDays(1), TimesheetEntryType.BILLABLE, 4);
+        });
+        drifted.add(bob, MONDAY, TimesheetEntryType.OVERTIME, 2);
+        drifted.add(bob, MONDAY.plusWeeks(10), TimesheetEntryType.OVERTIME, 2);
+        assertEquals(2, drifted.finish());
+        assertEquals(301, cube.employeeCount());
+    }
+
+    @Test
+    @DisplayName("Should refuse hours of an employee that were not fed in a row")
+    void shouldRefuseInterleavedEmployees() {
+        cube.add(alice, MONDAY, TimesheetEntryType.BILLABLE, 8);
+        cube.add(bob, MONDAY, TimesheetEntryType.BILLABLE, 8);
+        UtilizationCube.Drift drift = cube.drift();
+        drift.add(alice, MONDAY, TimesheetEntryType.BILLABLE, 4);
+        drift.add(bob, MONDAY, TimesheetEntryType.BILLABLE, 8);
+        drift.add(alice, MONDAY.plusDays(1), TimesheetEntryType.BILLABLE, 4);
+
+        assertThrows(IllegalStateException.class, drift::finish);
+    }
+
+    @Test
+    @DisplayName("Should keep five years of 50,000 employees within a few hundred megabytes")
+    void shouldStayWithinMemoryBudget() {
+        assertTrue(UtilizationCube.sizeInBytes(50_000, 269) < 350L * 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("Should grow by one block of employees at a time")
+    void shouldGrowByOneBlockAtATime() {
+        UtilizationCube fiveYears = UtilizationCube.create(MONDAY, 269);
+        assertEquals(0, fiveYears.sizeInBytes());
+
+        for (int employee = 0; employee <= UtilizationCube.BLOCK_EMPLOYEES; employee++) {
+            fiveYears.add(UUID.randomUUID(), MONDAY, TimesheetEntryType.BILLABLE, 8);
+            assertEquals(UtilizationCube.sizeInBytes(employee + 1, 269), fiveYears.sizeInBytes());
+        }
+        long block = UtilizationCube.sizeInBytes(1, 269);
+        assertEquals(2 * block, fiveYears.sizeInBytes());
+        assertEquals(50_000 / UtilizationCube.BLOCK_EMPLOYEES + 1, UtilizationCube.sizeInBytes(50_000, 269) / block);
+    }
+}
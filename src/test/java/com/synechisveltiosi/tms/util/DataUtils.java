@@ -35,15 +35,16 @@ public class DataUtils {
 
 
     public static Timesheet createTestTimesheet(TimesheetStatus timesheetStatus, Employee employee, TimesheetApproval approval) {
-        return Timesheet.builder()
+        Timesheet timesheet = Timesheet.builder()
                 .id(UUID.randomUUID())
                 .employee(employee)
                 .startDate(LocalDate.now().minus(DAYS_AGO_START, TimeUnit.DAYS.toChronoUnit()))
                 .endDate(LocalDate.now().minus(DAYS_AGO_END, TimeUnit.DAYS.toChronoUnit()))
-                .entries(createTestTimesheetEntries())
                 .status(timesheetStatus)
                 .approvals(new ArrayList<>(List.of(approval)))
                 .build();
+        createTestTimesheetEntries().forEach(timesheet::addEntry);
+        return timesheet;
     }
 
     public static TimesheetApproval createTimesheetApproval(Long id, Employee manager){
@@ -0,0 +1,176 @@
+package com.synechisveltiosi.tms.util;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Synthetic dataset for load tests, seeded with JDBC batch inserts so that its size is not bounded by the write
+ * path under test. Employees report to managers, who report to one director; each employee books hours to a fixed
+ * set of tasks on every weekday of the history. Every week but the last is approved, and the last one is submitted
+ * and awaiting the manager's decision. The same seed always yields the same dataset.
+ * <p>
+ * The rows bypass the services, so the hours rollup and task totals are then filled by the backfills of
+ * {@code db/hours-rollup.sql} and {@code db/task-hours.sql}, which only run while those tables are empty.
+ * In-memory views built at startup, such as the utilization cube, must be rebuilt by the caller.
+ *
+ * @param employees        number of employees, excluding managers and the director
+ * @param weeks            weeks of timesheet history per employee
+ * @param tasksPerEmployee tasks each employee books hours to
+ */
+public record LoadTestDataset(int employees, int weeks, int tasksPerEmployee, long seed) {
+    public static final LocalDate FIRST_WEEK = LocalDate.of(2023, 1, 2);
+    private static final int REPORTS_PER_MANAGER = 10;
+    private static final int BATCH_SIZE = 1000;
+    private static final String WEEKDAYS = "BBBBB--";
+    private static final short WEEKDAY_BITS = 0b0011111;
+    private static final short WEEKEND_BITS = 0b1100000;
+    private static final String INSERT_MANAGER = "INSERT INTO employee_manager (employee_id, manager_id) VALUES (?, ?)";
+    private static final String[] DERIVED_SCRIPTS = {"db/hours-rollup.sql", "db/task-hours.sql"};
+    private static final String SEPARATOR = "@@";
+
+    /**
+     * Reads the size from the {@code tms.load.employees}, {@code tms.load.weeks}, {@code tms.load.tasks-per-employee}
+     * and {@code tms.load.seed} system properties, falling back to the given defaults.
+     */
+    public static LoadTestDataset fromSystemProperties(int employees, int weeks, int tasksPerEmployee) {
+        return new LoadTestDataset(Integer.getInteger("tms.load.employees", employees),
+                Integer.getInteger("tms.load.weeks", weeks),
+                Integer.getInteger("tms.load.tasks-per-employee", tasksPerEmployee),
+                Long.getLong("tms.load.seed", 42L));
+    }
+
+    public LocalDate nextWeek() {
+        return FIRST_WEEK.plusWeeks(weeks);
+    }
+
+    public Seeded seed(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(seed);
+        UUID director = randomId(random);
+        insertEmployees(jdbcTemplate, List.of(director));
+        int managerCount = Math.max(1, (employees + REPORTS_PER_MANAGER - 1) / REPORTS_PER_MANAGER);
+        List<UUID> managers = randomIds(random, managerCount);
+        insertEmployees(jdbcTemplate, managers);
+        batch(jdbcTemplate, INSERT_MANAGER, managers.stream().map(id -> new Object[]{id, director}).toList());
+
+        List<UUID> reports = randomIds(random, employees);
+        insertEmployees(jdbcTemplate, reports);
+        List<Object[]> reportManagers = new ArrayList<>(reports.size());
+        for (int i = 0; i < reports.size(); i++) {
+            reportManagers.add(new Object[]{reports.get(i), managerOf(managers, i)});
+        }
+        batch(jdbcTemplate, INSERT_MANAGER, reportManagers);
+
+        List<Long> tasks = jdbcTemplate.queryForList("INSERT INTO task (id, name) SELECT nextval('task_seq'), " +
+                "'Load task ' || n FROM generate_series(1, ?) n RETURNING id", Long.class,
+                Math.max(tasksPerEmployee, employees * tasksPerEmployee / REPORTS_PER_MANAGER));
+
+        List<Object[]> timesheets = new ArrayList<>();
+        List<Object[]> lines = new ArrayList<>();
+        List<Object[]> approvals = new ArrayList<>();
+        List<UUID> submitted = new ArrayList<>();
+        for (int i = 0; i < reports.size(); i++) {
+            UUID employee = reports.get(i);
+            UUID manager = managerOf(managers, i);
+            int firstTask = random.nextInt(tasks.size());
+            for (int week = 0; week < weeks; week++) {
+                LocalDate startDate = FIRST_WEEK.plusWeeks(week);
+                boolean last = week == weeks - 1;
+                UUID timesheet = randomId(random);
+                timesheets.add(new Object[]{timesheet, last ? "SUBMITTED" : "APPROVED", startDate,
+                        startDate.plusDays(6), employee});
+                approvals.add(new Object[]{startDate.plusDays(7), last ? "PENDING" : "APPROVED", manager, timesheet});
+                if (last) {
+                    submitted.add(timesheet);
+                }
+                for (int task = 0; task < tasksPerEmployee; task++) {
+                    lines.add(new Object[]{lineId(random), timesheet, tasks.get((firstTask + task) % tasks.size()),
+                            startDate, WEEKDAY_BITS, WEEKEND_BITS, WEEKDAYS, weekdayHours(random)});
+                }
+            }
+        }
+        batch(jdbcTemplate, "INSERT INTO timesheet (id, status, start_date, end_date, employee_id) " +
+                "VALUES (?, ?, ?, ?, ?)", timesheets);
+        batch(jdbcTemplate, "INSERT INTO timesheet_line (id, version, timesheet_id, task_id, week_start, seq, " +
+                "entry_days, disabled_days, entry_types, hours) " +
+                "VALUES (?, 0, ?, ?, ?, 0, ?, ?, ?, CAST(? AS float8[]))", lines);
+        batch(jdbcTemplate, "INSERT INTO timesheet_approval (id, approval_date, status, comments, approver_id, " +
+                "timesheet_id) VALUES (nextval('timesheet_approval_seq'), ?, ?, '', ?, ?)", approvals);
+        backfillDerivedTables(jdbcTemplate);
+        jdbcTemplate.execute("ANALYZE");
+        return new Seeded(director, managers, reports, tasks, submitted);
+    }
+
+    private static void backfillDerivedTables(JdbcTemplate jdbcTemplate) {
+        Long derivedRows = jdbcTemplate.queryForObject("SELECT (SELECT count(*) FROM hours_rollup) + " +
+                "(SELECT count(*) FROM task_hours)", Long.class);
+        if (derivedRows != null && derivedRows > 0) {
+            throw new IllegalStateException("The backfills only run on an empty hours_rollup and task_hours, " +
+                    "found " + derivedRows + " rows");
+        }
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                Arrays.stream(DERIVED_SCRIPTS).map(ClassPathResource::new).toArray(Resource[]::new));
+        populator.setSeparator(SEPARATOR);
+        populator.execute(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+    }
+
+    private static UUID managerOf(List<UUID> managers, int report) {
+        return managers.get(report / REPORTS_PER_MANAGER % managers.size());
+    }
+
+    private static void insertEmployees(JdbcTemplate jdbcTemplate, List<UUID> ids) {
+        batch(jdbcTemplate, "INSERT INTO employee (id, first_name, last_name, contact_number, email_address, city, " +
+                "state, country) VALUES (?, 'Load', 'Test', '555-0100', 'load@example.com', 'New York', 'NY', 'USA')",
+                ids.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    private static void batch(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int start = 0; start < rows.size(); start += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(start, Math.min(start + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private static List<UUID> randomIds(Random random, int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(randomId(random));
+        }
+        return ids;
+    }
+
+    private static UUID randomId(Random random) {
+        return new UUID(random.nextLong() & ~0xF000L | 0x4000L,
+                random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L);
+    }
+
+    private static UUID lineId(Random random) {
+        UUID id = randomId(random);
+        return new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() & ~0xFL);
+    }
+
+    private static String weekdayHours(Random random) {
+        StringBuilder hours = new StringBuilder("{");
+        for (int day = 0; day < 5; day++) {
+            hours.append(1 + random.nextInt(8)).append(',');
+        }
+        return hours.append("0,0}").toString();
+    }
+
+    /**
+     * Ids of the seeded rows the load test drives the endpoints with.
+     *
+     * @param submitted the timesheets of the last week, awaiting a decision
+     */
+    public record Seeded(UUID director, List<UUID> managers, List<UUID> reports, List<Long> tasks,
+                         List<UUID> submitted) {
+    }
+}